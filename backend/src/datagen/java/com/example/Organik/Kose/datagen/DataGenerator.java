@@ -0,0 +1,300 @@
+package com.example.Organik.Kose.datagen;
+
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.service.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the database with a large synthetic shop: categories, products, users, carts and an
+ * order history with Zipfian product popularity. Rows get explicit ids above the current
+ * maximum, so chunks can be written in parallel (multi-row INSERTs, one transaction per
+ * chunk) and order lines can reference their order without reading generated keys.
+ * Everything is derived from datagen.seed, so the same settings produce the same data.
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DataGenerator implements ApplicationRunner {
+
+    private static final String PASSWORD = "Sifre.1234";
+    private static final String[] SIZES = {"100 g", "250 g", "500 g", "1 kg", "50 ml", "100 ml", "250 ml", "500 ml"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${datagen.categories:15}")
+    private int categoryCount;
+
+    @Value("${datagen.products:50000}")
+    private int productCount;
+
+    @Value("${datagen.users:1000000}")
+    private int userCount;
+
+    @Value("${datagen.orders:3000000}")
+    private long orderCount;
+
+    @Value("${datagen.max-lines-per-order:6}")
+    private int maxLinesPerOrder;
+
+    @Value("${datagen.cart-users:100000}")
+    private int cartUserCount;
+
+    @Value("${datagen.history-days:730}")
+    private int historyDays;
+
+    @Value("${datagen.product-zipf-exponent:1.07}")
+    private double productZipfExponent;
+
+    @Value("${datagen.user-zipf-exponent:0.6}")
+    private double userZipfExponent;
+
+    @Value("${datagen.rows-per-statement:500}")
+    private int rowsPerStatement;
+
+    @Value("${datagen.chunk-size:10000}")
+    private int chunkSize;
+
+    @Value("${datagen.threads:0}")
+    private int threads;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.rebuild-rollups:true}")
+    private boolean rebuildRollups;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        long start = System.nanoTime();
+        try {
+            long firstCategoryId = nextId("categories");
+            long firstProductId = nextId("products");
+            long firstUserId = nextId("users");
+            long firstOrderId = nextId("orders");
+            long firstDetailId = nextId("order_details");
+            long firstCartId = nextId("cart_items");
+            boolean emptyCatalog = firstCategoryId == 1;
+
+            // One hash for every account: hashing millions of passwords would dominate the run
+            String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+            generate(executor, "categories", categoryCount, (connection, from, to, random) -> {
+                try (MultiRowInserter inserter = new MultiRowInserter(connection, "categories",
+                        new String[]{"id", "name", "description", "icon", "aktif", "created_at"}, rowsPerStatement)) {
+                    for (long i = from; i < to; i++) {
+                        long id = firstCategoryId + i;
+                        String base = TurkishNames.CATEGORIES[(int) (i % TurkishNames.CATEGORIES.length)];
+                        String name = emptyCatalog && i < TurkishNames.CATEGORIES.length ? base : base + " " + id;
+                        inserter.add(id, name, name + " ürünleri", null, true, now.minusDays(historyDays));
+                    }
+                    inserter.flush();
+                    return inserter.inserted();
+                }
+            });
+
+            generate(executor, "products", productCount, (connection, from, to, random) -> {
+                try (MultiRowInserter inserter = new MultiRowInserter(connection, "products",
+                        new String[]{"id", "isim", "fiyat", "`açıklama`", "resim_url", "stok", "stok_esigi", "aktif",
+                                "created_at", "updated_at", "kategori_id"}, rowsPerStatement)) {
+                    for (long i = from; i < to; i++) {
+                        long id = firstProductId + i;
+                        String name = TurkishNames.productName(random) + " " + SIZES[random.nextInt(SIZES.length)];
+                        inserter.add(id, name, price(i), name + " - katkı maddesi içermez, doğal yöntemlerle üretilmiştir.",
+                                "/images/products/" + id + ".jpg", random.nextInt(500),
+                                random.nextInt(10) == 0 ? 5 + random.nextInt(20) : null,
+                                random.nextInt(50) != 0,
+                                now.minusDays(random.nextInt(historyDays + 1)), null,
+                                firstCategoryId + random.nextInt(categoryCount));
+                    }
+                    inserter.flush();
+                    return inserter.inserted();
+                }
+            });
+
+            generate(executor, "users", userCount, (connection, from, to, random) -> {
+                try (MultiRowInserter inserter = new MultiRowInserter(connection, "users",
+                        new String[]{"id", "email", "password", "name", "phone", "address", "role", "enabled", "created_at"},
+                        rowsPerStatement)) {
+                    for (long i = from; i < to; i++) {
+                        long id = firstUserId + i;
+                        String firstName = TurkishNames.firstName(random);
+                        String lastName = TurkishNames.lastName(random);
+                        String email = TurkishNames.ascii(firstName + " " + lastName) + "." + id + "@ornek.com.tr";
+                        inserter.add(id, email, passwordHash, firstName + " " + lastName,
+                                String.format("05%02d%07d", 30 + random.nextInt(30), random.nextInt(10_000_000)),
+                                TurkishNames.address(random), "USER", true,
+                                now.minusDays(historyDays).plusMinutes(random.nextInt(historyDays * 1440)));
+                    }
+                    inserter.flush();
+                    return inserter.inserted();
+                }
+            });
+
+            ZipfSampler productSampler = new ZipfSampler(productCount, productZipfExponent);
+            ZipfSampler userSampler = new ZipfSampler(userCount, userZipfExponent);
+            long historySeconds = historyDays * 86_400L;
+
+            generate(executor, "orders", orderCount, (connection, from, to, random) -> {
+                try (MultiRowInserter orders = new MultiRowInserter(connection, "orders",
+                        new String[]{"id", "order_date", "total_amount", "status", "user_id"}, rowsPerStatement);
+                     MultiRowInserter details = new MultiRowInserter(connection, "order_details",
+                             new String[]{"id", "order_id", "product_id", "quantity", "price", "indirim"}, rowsPerStatement)
+                             .referencing(orders)) {
+                    for (long i = from; i < to; i++) {
+                        long orderId = firstOrderId + i;
+                        // Dates grow with the id, as they do for real orders
+                        long offset = historySeconds * i / orderCount + random.nextInt(3600);
+                        LocalDateTime orderDate = now.minusSeconds(historySeconds).plusSeconds(Math.min(offset, historySeconds));
+
+                        // Ids are spaced by maxLinesPerOrder, so lines never collide across chunks
+                        Set<Integer> lines = distinctProducts(productSampler, random, 1 + random.nextInt(maxLinesPerOrder));
+                        List<Object[]> orderLines = new ArrayList<>(lines.size());
+                        BigDecimal total = BigDecimal.ZERO;
+                        for (int productIndex : lines) {
+                            int quantity = 1 + (random.nextInt(10) == 0 ? random.nextInt(4) : 0);
+                            BigDecimal price = price(productIndex);
+                            orderLines.add(new Object[]{firstDetailId + i * maxLinesPerOrder + orderLines.size(),
+                                    orderId, firstProductId + productIndex, quantity, price, BigDecimal.ZERO});
+                            total = total.add(price.multiply(BigDecimal.valueOf(quantity)));
+                        }
+                        orders.add(orderId, orderDate, total, status(orderDate, random),
+                                firstUserId + userSampler.sample(random));
+                        for (Object[] orderLine : orderLines) {
+                            details.add(orderLine);
+                        }
+                    }
+                    orders.flush();
+                    details.flush();
+                    return orders.inserted();
+                }
+            });
+
+            generate(executor, "cart_items", cartUserCount, (connection, from, to, random) -> {
+                try (MultiRowInserter inserter = new MultiRowInserter(connection, "cart_items",
+                        new String[]{"id", "user_id", "product_id", "quantity"}, rowsPerStatement)) {
+                    for (long i = from; i < to; i++) {
+                        // Spread cart owners over the whole user range
+                        long userId = firstUserId + (i * userCount / Math.max(cartUserCount, 1));
+                        int slot = 0;
+                        for (int productIndex : distinctProducts(productSampler, random, 1 + random.nextInt(4))) {
+                            inserter.add(firstCartId + i * 4 + slot++, userId, firstProductId + productIndex,
+                                    1 + random.nextInt(3));
+                        }
+                    }
+                    inserter.flush();
+                    return inserter.inserted();
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        if (rebuildRollups && orderCount > 0) {
+            long rollupStart = System.nanoTime();
+            salesAnalyticsService.rebuildSalesRollups();
+            salesAnalyticsService.rebuildRevenueRollups();
+            log.info("Rebuilt sales rollups in {} ms", (System.nanoTime() - rollupStart) / 1_000_000);
+        }
+        // Running instances on a shared transport drop their cached catalog and product lists
+        cacheInvalidationBus.publish(CacheInvalidationBus.CATEGORY, null);
+        cacheInvalidationBus.publish(CacheInvalidationBus.PRODUCT, null);
+        log.info("Data generation finished in {} s", (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private void generate(ExecutorService executor, String table, long count, ChunkWriter writer) throws Exception {
+        if (count <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        AtomicLong rows = new AtomicLong();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (long from = 0; from < count; from += chunkSize) {
+            long chunkFrom = from;
+            long chunkTo = Math.min(from + chunkSize, count);
+            chunks.add(executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    try {
+                        rows.addAndGet(writer.write(connection, chunkFrom, chunkTo,
+                                new Random(seed * 31 + table.hashCode() * 17L + chunkFrom)));
+                        connection.commit();
+                    } catch (SQLException | RuntimeException e) {
+                        connection.rollback();
+                        throw e;
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> chunk : chunks) {
+            chunk.get();
+        }
+
+        long elapsedMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        log.info("Inserted {} {} in {} ms ({} rows/s)", rows.get(), table, elapsedMs, rows.get() * 1000 / elapsedMs);
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private BigDecimal price(long productIndex) {
+        long hash = (productIndex + seed) * 0x9E3779B97F4A7C15L;
+        return BigDecimal.valueOf(990 + Math.floorMod(hash ^ (hash >>> 29), 49_000L), 2);
+    }
+
+    private static Set<Integer> distinctProducts(ZipfSampler sampler, Random random, int count) {
+        Set<Integer> products = new LinkedHashSet<>();
+        for (int attempt = 0; products.size() < count && attempt < count * 4; attempt++) {
+            products.add(sampler.sample(random));
+        }
+        return products;
+    }
+
+    private String status(LocalDateTime orderDate, Random random) {
+        if (orderDate.isAfter(now.minusDays(2))) {
+            return "Hazırlanıyor";
+        }
+        if (orderDate.isAfter(now.minusDays(7))) {
+            return "Kargoda";
+        }
+        return random.nextInt(100) < 7 ? SalesAnalyticsService.CANCELLED_STATUS : "Teslim Edildi";
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        long write(Connection connection, long from, long to, Random random) throws SQLException;
+    }
+}
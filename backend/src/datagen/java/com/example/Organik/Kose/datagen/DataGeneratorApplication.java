@@ -0,0 +1,22 @@
+package com.example.Organik.Kose.datagen;
+
+import com.example.Organik.Kose.OrganikKoseApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Starts the application context without a web server on the datagen profile, runs
+ * {@link DataGenerator} and exits.
+ *
+ * mvn -P datagen verify -Ddatagen.args="--datagen.users=2000000 --datagen.orders=5000000"
+ */
+public class DataGeneratorApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(new SpringApplicationBuilder(OrganikKoseApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("datagen")
+                .run(args)));
+    }
+}
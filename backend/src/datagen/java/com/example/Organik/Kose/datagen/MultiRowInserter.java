@@ -0,0 +1,99 @@
+package com.example.Organik.Kose.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers rows and writes them as multi-row INSERT ... VALUES (...), (...) statements on
+ * one connection. Not thread-safe: each worker owns its inserters.
+ */
+class MultiRowInserter implements AutoCloseable {
+
+    private final Connection connection;
+    private final String insertPrefix;
+    private final String rowPlaceholders;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final List<Object[]> buffer;
+
+    private PreparedStatement fullStatement;
+    private MultiRowInserter parent;
+    private long inserted;
+
+    MultiRowInserter(Connection connection, String table, String[] columns, int rowsPerStatement) {
+        this.connection = connection;
+        this.insertPrefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.rowPlaceholders = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        this.columnCount = columns.length;
+        this.rowsPerStatement = rowsPerStatement;
+        this.buffer = new ArrayList<>(rowsPerStatement);
+    }
+
+    /**
+     * Rows of this inserter reference rows of parent (foreign key): the parent is flushed
+     * before each statement so the referenced rows exist.
+     */
+    MultiRowInserter referencing(MultiRowInserter parent) {
+        this.parent = parent;
+        return this;
+    }
+
+    void add(Object... values) throws SQLException {
+        buffer.add(values);
+        if (buffer.size() == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        }
+    }
+
+    void flush() throws SQLException {
+        if (!buffer.isEmpty()) {
+            try (PreparedStatement statement = connection.prepareStatement(sql(buffer.size()))) {
+                execute(statement);
+            }
+        }
+    }
+
+    long inserted() {
+        return inserted;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (fullStatement != null) {
+            fullStatement.close();
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        if (parent != null) {
+            parent.flush();
+        }
+        int index = 1;
+        for (Object[] row : buffer) {
+            for (int i = 0; i < columnCount; i++) {
+                statement.setObject(index++, row[i]);
+            }
+        }
+        statement.executeUpdate();
+        inserted += buffer.size();
+        buffer.clear();
+    }
+
+    private String sql(int rows) {
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rows * (rowPlaceholders.length() + 2));
+        sql.append(insertPrefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.Organik.Kose.datagen;
+
+import java.util.Random;
+
+final class TurkishNames {
+
+    private static final String[] FIRST_NAMES = {
+            "Ayşe", "Fatma", "Zeynep", "Elif", "Emine", "Hatice", "Merve", "Büşra", "Esra", "Özge",
+            "Gül", "Şeyma", "Çiğdem", "Derya", "İrem", "Rabia", "Sevgi", "Tuğba", "Yasemin", "Dilek",
+            "Mehmet", "Mustafa", "Ahmet", "Ali", "Hüseyin", "Hasan", "İbrahim", "Murat", "Ömer", "Emre",
+            "Burak", "Serkan", "Oğuz", "Kağan", "Çağrı", "Barış", "Cem", "Uğur", "Volkan", "Yusuf"
+    };
+    private static final String[] LAST_NAMES = {
+            "Yılmaz", "Kaya", "Demir", "Şahin", "Çelik", "Yıldız", "Yıldırım", "Öztürk", "Aydın", "Özdemir",
+            "Arslan", "Doğan", "Kılıç", "Aslan", "Çetin", "Kara", "Koç", "Kurt", "Özkan", "Şimşek",
+            "Polat", "Öz", "Korkmaz", "Karataş", "Erdoğan", "Güneş", "Aksoy", "Uysal", "Türk", "Bulut"
+    };
+    private static final String[] CITIES = {
+            "İstanbul", "Ankara", "İzmir", "Bursa", "Antalya", "Konya", "Adana", "Gaziantep",
+            "Kayseri", "Eskişehir", "Trabzon", "Muğla", "Çanakkale", "Diyarbakır", "Samsun"
+    };
+    private static final String[] DISTRICTS = {
+            "Merkez", "Çamlıca", "Bahçelievler", "Yenişehir", "Cumhuriyet", "Atatürk", "Güzelyalı", "Kuştepe"
+    };
+
+    static final String[] CATEGORIES = {
+            "Doğal Sabunlar", "Bitkisel Yağlar", "Cilt Bakımı", "Saç Bakımı", "Organik Gıda",
+            "Bitki Çayları", "Arı Ürünleri", "Aromaterapi", "Bebek Bakımı", "Ev Temizliği",
+            "Kuru Meyveler", "Baharatlar", "Tahıllar", "Zeytin ve Zeytinyağı", "Reçel ve Pekmez"
+    };
+    private static final String[] PRODUCT_ADJECTIVES = {
+            "Organik", "Doğal", "Soğuk Sıkım", "El Yapımı", "Katkısız", "Yöresel", "Taş Baskı", "Köy"
+    };
+    private static final String[] PRODUCT_NOUNS = {
+            "Zeytinyağlı Sabun", "Lavanta Yağı", "Çiçek Balı", "Kekik Çayı", "Gül Suyu", "Badem Yağı",
+            "Keçi Sütlü Sabun", "Biberiye Şampuanı", "Defne Sabunu", "Aloe Vera Jeli", "Çörek Otu Yağı",
+            "Dut Pekmezi", "Kayısı Kurusu", "Ihlamur", "Adaçayı", "Propolis", "Hindistan Cevizi Yağı"
+    };
+
+    private TurkishNames() {
+    }
+
+    static String firstName(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    static String lastName(Random random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    static String address(Random random) {
+        return DISTRICTS[random.nextInt(DISTRICTS.length)] + " Mah. " + (1 + random.nextInt(200)) + ". Sok. No:"
+                + (1 + random.nextInt(80)) + ", " + CITIES[random.nextInt(CITIES.length)];
+    }
+
+    static String productName(Random random) {
+        return PRODUCT_ADJECTIVES[random.nextInt(PRODUCT_ADJECTIVES.length)] + " "
+                + PRODUCT_NOUNS[random.nextInt(PRODUCT_NOUNS.length)];
+    }
+
+    /**
+     * ASCII form for e-mail addresses: "Çağrı Öztürk" → "cagri.ozturk".
+     */
+    static String ascii(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case 'ç', 'Ç' -> sb.append('c');
+                case 'ğ', 'Ğ' -> sb.append('g');
+                case 'ı', 'I', 'İ' -> sb.append('i');
+                case 'ö', 'Ö' -> sb.append('o');
+                case 'ş', 'Ş' -> sb.append('s');
+                case 'ü', 'Ü' -> sb.append('u');
+                case ' ' -> sb.append('.');
+                default -> sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+}
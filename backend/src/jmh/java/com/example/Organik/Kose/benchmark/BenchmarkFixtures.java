@@ -0,0 +1,96 @@
+package com.example.Organik.Kose.benchmark;
+
+import com.example.Organik.Kose.model.Category;
+import com.example.Organik.Kose.model.Order;
+import com.example.Organik.Kose.model.OrderDetail;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic in-memory entities for the benchmarks. A fixed seed keeps inputs identical
+ * across runs so results can be compared between releases.
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("kullanici" + id + "@organikkose.com");
+        user.setPassword("{noop}unused");
+        user.setName("Kullanıcı " + id);
+        user.setPhone("05550000000");
+        user.setAddress("Kadıköy, İstanbul");
+        user.setRole(User.Role.USER);
+        return user;
+    }
+
+    public static List<Product> products(int count) {
+        Random random = new Random(SEED);
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Doğal Sabunlar");
+
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = new Product();
+            product.setId((long) i);
+            product.setIsim("Organik Zeytinyağlı Sabun " + i);
+            product.setFiyat(BigDecimal.valueOf(1000 + random.nextInt(50000), 2));
+            product.setAçıklama("Soğuk işlem yöntemiyle üretilmiş, katkısız doğal ürün. Parti " + random.nextInt(1000));
+            product.setResimUrl("/images/products/" + i + ".jpg");
+            product.setStok(random.nextInt(200));
+            product.setStokEsigi(i % 3 == 0 ? 10 : null);
+            product.setAktif(true);
+            product.setCreatedAt(BASE_DATE);
+            product.setCategory(category);
+            products.add(product);
+        }
+        return products;
+    }
+
+    public static List<Order> orders(int count, int linesPerOrder) {
+        Random random = new Random(SEED);
+        List<Product> products = products(100);
+        User user = user(1L);
+
+        List<Order> orders = new ArrayList<>(count);
+        long detailId = 1;
+        for (int i = 1; i <= count; i++) {
+            Order order = new Order();
+            order.setId((long) i);
+            order.setUser(user);
+            order.setOrderDate(BASE_DATE.plusMinutes(i));
+            order.setStatus("Hazırlanıyor");
+
+            List<OrderDetail> details = new ArrayList<>(linesPerOrder);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int j = 0; j < linesPerOrder; j++) {
+                Product product = products.get(random.nextInt(products.size()));
+                OrderDetail detail = new OrderDetail();
+                detail.setId(detailId++);
+                detail.setOrder(order);
+                detail.setProduct(product);
+                detail.setQuantity(1 + random.nextInt(3));
+                detail.setPrice(product.getFiyat());
+                details.add(detail);
+                total = total.add(product.getFiyat().multiply(BigDecimal.valueOf(detail.getQuantity())));
+            }
+            order.setOrderDetails(details);
+            order.setTotalAmount(total);
+            orders.add(order);
+        }
+        return orders;
+    }
+}
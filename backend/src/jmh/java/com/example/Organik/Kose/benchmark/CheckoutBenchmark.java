@@ -0,0 +1,122 @@
+package com.example.Organik.Kose.benchmark;
+
+import com.example.Organik.Kose.OrganikKoseApplication;
+import com.example.Organik.Kose.dto.AuthResponse;
+import com.example.Organik.Kose.dto.LoginRequest;
+import com.example.Organik.Kose.dto.OrderDTO;
+import com.example.Organik.Kose.model.Category;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.model.User;
+import com.example.Organik.Kose.repository.CategoryRepository;
+import com.example.Organik.Kose.repository.ProductRepository;
+import com.example.Organik.Kose.repository.UserRepository;
+import com.example.Organik.Kose.service.CartService;
+import com.example.Organik.Kose.service.OrderService;
+import com.example.Organik.Kose.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart and checkout service logic against an in-memory H2 database (bench profile), with the
+ * full Spring context so transactions, rollups and stock monitoring run as in production.
+ * Absolute numbers are not comparable to MySQL; use them to track relative changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckoutBenchmark {
+
+    private static final int PRODUCT_COUNT = 200;
+    private static final String PASSWORD = "Sifre.1234";
+
+    private ConfigurableApplicationContext context;
+    private CartService cartService;
+    private OrderService orderService;
+    private UserService userService;
+    private Long userId;
+    private List<Long> productIds;
+    private LoginRequest loginRequest;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrganikKoseApplication.class)
+                .profiles("bench")
+                .run();
+        cartService = context.getBean(CartService.class);
+        orderService = context.getBean(OrderService.class);
+        userService = context.getBean(UserService.class);
+
+        Category category = new Category();
+        category.setName("Doğal Sabunlar");
+        category = context.getBean(CategoryRepository.class).save(category);
+
+        List<Product> products = BenchmarkFixtures.products(PRODUCT_COUNT);
+        for (Product product : products) {
+            product.setId(null);
+            product.setCategory(category);
+            product.setStok(Integer.MAX_VALUE / 2);
+        }
+        productIds = new ArrayList<>(PRODUCT_COUNT);
+        for (Product product : context.getBean(ProductRepository.class).saveAll(products)) {
+            productIds.add(product.getId());
+        }
+
+        User user = BenchmarkFixtures.user(0L);
+        user.setId(null);
+        user.setPassword(new BCryptPasswordEncoder().encode(PASSWORD));
+        userId = context.getBean(UserRepository.class).save(user).getId();
+
+        loginRequest = new LoginRequest();
+        loginRequest.setEmail(user.getEmail());
+        loginRequest.setPassword(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void addToCart() {
+        cartService.addToCart(userId, nextProductId(), 1);
+    }
+
+    @Benchmark
+    public OrderDTO checkoutThreeItems() {
+        cartService.addToCart(userId, nextProductId(), 1);
+        cartService.addToCart(userId, nextProductId(), 2);
+        cartService.addToCart(userId, nextProductId(), 1);
+        return orderService.createOrderFromCart(userId, null);
+    }
+
+    @Benchmark
+    public AuthResponse login() {
+        return userService.login(loginRequest).join();
+    }
+
+    private Long nextProductId() {
+        next = (next + 1) % productIds.size();
+        return productIds.get(next);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.Organik.Kose.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cost on the request thread of one log line, writing synchronously versus through the
+ * AsyncAppender set up in logback-spring.xml. Output goes to a discarding stream so the
+ * figures measure formatting and hand-off rather than the terminal.
+ *
+ * With the async appender a saturated queue drops INFO lines but blocks on WARN, so the INFO
+ * figures can include discarded events while the WARN figures are bounded by the worker's
+ * throughput. The number of events actually written is printed after each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async"})
+    private String mode;
+
+    @Param({"INFO", "WARN"})
+    private String level;
+
+    private final AtomicLong written = new AtomicLong();
+    private boolean warn;
+
+    private LoggerContext context;
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{HH:mm:ss.SSS} %5p [%15.15t] [%X{correlationId:-}] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>() {
+            @Override
+            protected void subAppend(ILoggingEvent event) {
+                super.subAppend(event);
+                written.incrementAndGet();
+            }
+        };
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> appender = output;
+        if ("async".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(false);
+            async.addAppender(output);
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger("com.example.Organik.Kose.service.OrderService");
+        logger.setLevel(Level.INFO);
+        warn = "WARN".equals(level);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        System.out.printf("%n%s %s: %d events written%n", mode, level, written.get());
+    }
+
+    @Benchmark
+    public void orderCreated(RequestThread requestThread) {
+        if (warn) {
+            logger.warn("Order {} created for user {} with {} items", 12345L, 678L, 4);
+        } else {
+            logger.info("Order {} created for user {} with {} items", 12345L, 678L, 4);
+        }
+    }
+
+    /**
+     * Each benchmark thread carries a correlation id, as request threads do via CorrelationIdFilter.
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        @Setup
+        public void setUp(LoggingBenchmark benchmark) {
+            benchmark.context.getMDCAdapter().put("correlationId", "3f1c2b9e-7d4a-4f5e-9a61-0c2d8e4b7a10");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.Organik.Kose.benchmark;
+
+import com.example.Organik.Kose.config.PasswordEncoderConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt verification cost paid by every login, measured on the encoder PasswordEncoderConfig
+ * builds. Strength 0 calibrates like the application does with the default settings
+ * (min 10, max 14, target 100 ms), so the result reflects the strength this machine would pick;
+ * the fixed strengths show what each step of the work factor costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"0", "10", "12", "14"})
+    private int strength;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = PasswordEncoderConfig.encoder(strength > 0 ? strength : PasswordEncoderConfig.calibrate(10, 14, 100));
+        hash = encoder.encode("Sifre.1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("Sifre.1234", hash);
+    }
+}
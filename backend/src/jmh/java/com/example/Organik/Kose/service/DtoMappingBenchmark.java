@@ -0,0 +1,64 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.benchmark.BenchmarkFixtures;
+import com.example.Organik.Kose.dto.OrderDTO;
+import com.example.Organik.Kose.dto.ProductDTO;
+import com.example.Organik.Kose.model.Order;
+import com.example.Organik.Kose.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.objenesis.ObjenesisStd;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity to DTO mapping as done on the catalog and order history endpoints. Lives in the
+ * service package to reach the package-private convertToDTO methods; the services are
+ * instantiated without their collaborators, which the mapping does not use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"100"})
+    private int size;
+
+    private ProductService productService;
+    private OrderService orderService;
+    private List<Product> products;
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        ObjenesisStd objenesis = new ObjenesisStd();
+        productService = objenesis.newInstance(ProductService.class);
+        orderService = objenesis.newInstance(OrderService.class);
+        products = BenchmarkFixtures.products(size);
+        orders = BenchmarkFixtures.orders(size, 5);
+    }
+
+    @Benchmark
+    public List<ProductDTO> productList() {
+        return products.stream().map(productService::convertToDTO).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<OrderDTO> orderList() {
+        return orders.stream().map(orderService::convertToDTO).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.benchmark.BenchmarkFixtures;
+import com.example.Organik.Kose.dto.PricedCart;
+import com.example.Organik.Kose.model.Campaign;
+import com.example.Organik.Kose.model.Category;
+import com.example.Organik.Kose.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart pricing with a realistic rule set: category percentages, product percentages and
+ * buy-X-get-Y offers on a share of the catalogue, plus a store-wide coupon.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    private static final int CATEGORIES = 20;
+    private static final int CATALOGUE = 2000;
+
+    @Param({"1", "10", "50", "200"})
+    private int lines;
+
+    @Param({"200"})
+    private int campaigns;
+
+    private PricingEngine pricingEngine;
+    private List<PricingEngine.Line> cart;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Product> products = BenchmarkFixtures.products(CATALOGUE);
+        for (Product product : products) {
+            Category category = new Category();
+            category.setId((long) (product.getId() % CATEGORIES) + 1);
+            product.setCategory(category);
+        }
+
+        List<Campaign> rules = new ArrayList<>(campaigns + 1);
+        for (int i = 0; i < campaigns; i++) {
+            Campaign campaign = new Campaign();
+            campaign.setIsim("Kampanya " + i);
+            if (i < CATEGORIES / 2) {
+                campaign.setTip(Campaign.Type.PERCENT);
+                campaign.setKategoriId((long) i + 1);
+                campaign.setIndirimOrani(BigDecimal.valueOf(5 + random.nextInt(20)));
+            } else if (i % 2 == 0) {
+                campaign.setTip(Campaign.Type.PERCENT);
+                campaign.setUrunId((long) random.nextInt(CATALOGUE) + 1);
+                campaign.setIndirimOrani(BigDecimal.valueOf(10 + random.nextInt(30)));
+            } else {
+                campaign.setTip(Campaign.Type.BUY_X_GET_Y);
+                campaign.setUrunId((long) random.nextInt(CATALOGUE) + 1);
+                campaign.setAlAdet(2);
+                campaign.setBedavaAdet(1);
+            }
+            rules.add(campaign);
+        }
+        Campaign coupon = new Campaign();
+        coupon.setIsim("Hos geldin");
+        coupon.setTip(Campaign.Type.COUPON);
+        coupon.setKuponKodu("HOSGELDIN");
+        coupon.setIndirimOrani(BigDecimal.TEN);
+        rules.add(coupon);
+
+        pricingEngine = new PricingEngine(null);
+        pricingEngine.install(rules);
+
+        cart = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            cart.add(new PricingEngine.Line(products.get(random.nextInt(CATALOGUE)), 1 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public PricedCart price() {
+        return pricingEngine.price(cart, null);
+    }
+
+    @Benchmark
+    public PricedCart priceWithCoupon() {
+        return pricingEngine.price(cart, "hosgeldin");
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.benchmark.BenchmarkFixtures;
+import com.example.Organik.Kose.dto.OrderDTO;
+import com.example.Organik.Kose.dto.ProductDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.objenesis.ObjenesisStd;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response body encoding of the product and order list endpoints in each format the API can
+ * negotiate, with mappers built the same way Spring Boot builds the ones used by the message
+ * converters. The *Gzip benchmarks add the cost of server.compression; the encoded and
+ * gzipped sizes of each payload are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"100"})
+    private int size;
+
+    @Param({"json", "json-blackbird", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<ProductDTO> products;
+    private List<OrderDTO> orders;
+
+    @Setup
+    public void setUp() {
+        objectMapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "json-blackbird" -> Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).factory(new SmileFactory()).build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).factory(new CBORFactory()).build();
+            default -> throw new IllegalArgumentException(format);
+        };
+        ObjenesisStd objenesis = new ObjenesisStd();
+        ProductService productService = objenesis.newInstance(ProductService.class);
+        OrderService orderService = objenesis.newInstance(OrderService.class);
+        products = BenchmarkFixtures.products(size).stream()
+                .map(productService::convertToDTO)
+                .collect(Collectors.toList());
+        orders = BenchmarkFixtures.orders(size, 5).stream()
+                .map(orderService::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void reportSizes() throws IOException {
+        byte[] productBytes = productList();
+        byte[] orderBytes = orderList();
+        System.out.printf("%n[%s, size=%d] products: %d bytes (%d gzipped), orders: %d bytes (%d gzipped)%n",
+                format, size, productBytes.length, gzip(productBytes).length, orderBytes.length, gzip(orderBytes).length);
+    }
+
+    @Benchmark
+    public byte[] productList() throws IOException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] orderList() throws IOException {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] productListGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(products));
+    }
+
+    @Benchmark
+    public byte[] orderListGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(orders));
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.Organik.Kose.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seeds the catalog and the shopper accounts through the public API, so the same harness
+ * works against an embedded instance or a deployed environment.
+ */
+public class ApiSeeder {
+
+    static final String[] PRODUCT_WORDS = {
+            "Sabun", "Zeytinyağı", "Lavanta", "Bal", "Çay", "Şampuan", "Krem", "Tuz",
+            "Gül Suyu", "Badem Yağı", "Kekik", "Biberiye", "Keçi Sütü", "Defne", "Aloe"
+    };
+    private static final String[] CATEGORY_WORDS = {
+            "Doğal Sabunlar", "Bitkisel Yağlar", "Cilt Bakımı", "Saç Bakımı", "Organik Gıda",
+            "Bitki Çayları", "Arı Ürünleri", "Aromaterapi", "Bebek Bakımı", "Ev Temizliği"
+    };
+
+    private final ApiClient client;
+    private final ObjectMapper objectMapper;
+    private final Random random;
+
+    public ApiSeeder(ApiClient client, ObjectMapper objectMapper, long seed) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.random = new Random(seed);
+    }
+
+    public List<Long> seedCategories(int count) {
+        Set<String> existing = new HashSet<>();
+        for (JsonNode category : client.json(client.get("/api/categories", null))) {
+            existing.add(category.get("name").asText());
+        }
+        for (int i = 0; i < count; i++) {
+            String name = CATEGORY_WORDS[i % CATEGORY_WORDS.length] + (i >= CATEGORY_WORDS.length ? " " + i : "");
+            if (!existing.contains(name)) {
+                client.post("/api/categories", null, Map.of("name", name, "description", name, "aktif", true));
+            }
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode category : client.json(client.get("/api/categories", null))) {
+            ids.add(category.get("id").asLong());
+        }
+        return ids;
+    }
+
+    public List<Long> seedProducts(int count, List<Long> categoryIds) throws Exception {
+        if (count > 0) {
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                Map<String, Object> product = new LinkedHashMap<>();
+                product.put("isim", PRODUCT_WORDS[random.nextInt(PRODUCT_WORDS.length)] + " "
+                        + PRODUCT_WORDS[random.nextInt(PRODUCT_WORDS.length)] + " " + (i + 1));
+                product.put("fiyat", BigDecimal.valueOf(500 + random.nextInt(100000), 2));
+                product.put("açıklama", "Yük testi ürünü");
+                product.put("stok", 1_000_000);
+                product.put("aktif", true);
+                product.put("categoryId", categoryIds.get(random.nextInt(categoryIds.size())));
+                ndjson.append(objectMapper.writeValueAsString(product)).append('\n');
+            }
+            ApiClient.Response response = client.postRaw("/api/products/import", "application/x-ndjson",
+                    ndjson.toString().getBytes(StandardCharsets.UTF_8));
+            if (!response.ok()) {
+                throw new IllegalStateException("Product import failed: " + response.status() + " " + response.body());
+            }
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode product : client.json(client.get("/api/products", null))) {
+            ids.add(product.get("id").asLong());
+        }
+        return ids;
+    }
+
+    /**
+     * Registers one account per virtual user (or logs in if it already exists) and returns the tokens.
+     */
+    public List<String> seedUsers(int count, long runId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(count, 16));
+        try {
+            List<Future<String>> tokens = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String email = "yuktesti" + runId + "." + i + "@organikkose.com";
+                tokens.add(executor.submit(() -> registerOrLogin(email)));
+            }
+            List<String> result = new ArrayList<>(count);
+            for (Future<String> token : tokens) {
+                result.add(token.get());
+            }
+            return result;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private String registerOrLogin(String email) {
+        String password = "YukTesti.2024";
+        ApiClient.Response response = client.post("/api/auth/register", null, Map.of(
+                "email", email, "password", password, "name", "Yük Testi",
+                "phone", "05550000000", "address", "İstanbul"));
+        if (!response.ok()) {
+            response = client.post("/api/auth/login", null, Map.of("email", email, "password", password));
+        }
+        if (!response.ok()) {
+            throw new IllegalStateException("Could not authenticate " + email + ": " + response.body());
+        }
+        return client.json(response).get("token").asText();
+    }
+}
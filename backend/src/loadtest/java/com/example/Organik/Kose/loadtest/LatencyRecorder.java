@@ -0,0 +1,65 @@
+package com.example.Organik.Kose.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-virtual-user latency samples. Each user owns its recorder, so recording needs no
+ * coordination; recorders are merged once the run is over.
+ */
+public class LatencyRecorder {
+
+    private final Map<Step, long[]> samples = new EnumMap<>(Step.class);
+    private final Map<Step, Integer> counts = new EnumMap<>(Step.class);
+    private final Map<Step, Integer> errors = new EnumMap<>(Step.class);
+
+    public void record(Step step, long nanos, boolean ok) {
+        int count = counts.getOrDefault(step, 0);
+        long[] values = samples.get(step);
+        if (values == null) {
+            values = new long[1024];
+            samples.put(step, values);
+        } else if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+            samples.put(step, values);
+        }
+        values[count] = nanos;
+        counts.put(step, count + 1);
+        if (!ok) {
+            errors.merge(step, 1, Integer::sum);
+        }
+    }
+
+    public void mergeInto(LatencyRecorder target) {
+        counts.forEach((step, count) -> {
+            long[] values = samples.get(step);
+            for (int i = 0; i < count; i++) {
+                target.record(step, values[i], true);
+            }
+        });
+        errors.forEach((step, count) -> target.errors.merge(step, count, Integer::sum));
+    }
+
+    public StepSummary summarize(Step step, double durationSeconds) {
+        int count = counts.getOrDefault(step, 0);
+        long[] sorted = count == 0 ? new long[0] : Arrays.copyOf(samples.get(step), count);
+        Arrays.sort(sorted);
+        return new StepSummary(step, count, errors.getOrDefault(step, 0),
+                count / durationSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.95),
+                percentile(sorted, 0.99), count == 0 ? 0 : sorted[count - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    public record StepSummary(Step step, int count, int errors, double throughput,
+                              double p50Ms, double p90Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.Organik.Kose.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Run settings, read from -Dloadtest.* system properties. An empty baseUrl starts the app
+ * in-process on the loadtest profile (in-memory H2) instead of targeting a running instance.
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        int users,
+        Duration duration,
+        Duration rampUp,
+        Duration thinkTime,
+        int seedCategories,
+        int seedProducts,
+        long randomSeed,
+        String output
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl", ""),
+                Integer.getInteger("loadtest.users", 50),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60L)),
+                Duration.ofSeconds(Long.getLong("loadtest.rampUpSeconds", 10L)),
+                Duration.ofMillis(Long.getLong("loadtest.thinkTimeMs", 0L)),
+                Integer.getInteger("loadtest.seed.categories", 12),
+                Integer.getInteger("loadtest.seed.products", 2000),
+                Long.getLong("loadtest.randomSeed", 42L),
+                System.getProperty("loadtest.output", "target/loadtest-result.json")
+        );
+    }
+
+    public boolean embedded() {
+        return baseUrl.isBlank();
+    }
+}
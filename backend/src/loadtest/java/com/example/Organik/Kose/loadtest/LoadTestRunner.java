@@ -0,0 +1,121 @@
+package com.example.Organik.Kose.loadtest;
+
+import com.example.Organik.Kose.OrganikKoseApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the shopping journeys with a fixed number of concurrent virtual users and reports
+ * throughput and latency percentiles per step, on the console and as JSON.
+ *
+ * mvn -P loadtest verify -Dloadtest.users=100 -Dloadtest.durationSeconds=120
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+        if (config.embedded()) {
+            context = new SpringApplicationBuilder(OrganikKoseApplication.class)
+                    .profiles("loadtest")
+                    .run();
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            ApiClient client = new ApiClient(baseUrl, objectMapper);
+            ApiSeeder seeder = new ApiSeeder(client, objectMapper, config.randomSeed());
+
+            long seedStart = System.nanoTime();
+            List<Long> categoryIds = seeder.seedCategories(config.seedCategories());
+            List<Long> productIds = seeder.seedProducts(config.seedProducts(), categoryIds);
+            List<String> tokens = seeder.seedUsers(config.users(), System.currentTimeMillis());
+            System.out.printf("Seeded %d categories, %d products, %d users in %d ms against %s%n",
+                    categoryIds.size(), productIds.size(), tokens.size(),
+                    (System.nanoTime() - seedStart) / 1_000_000, baseUrl);
+
+            LatencyRecorder total = run(config, client, categoryIds, productIds, tokens);
+            report(config, total, objectMapper);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static LatencyRecorder run(LoadTestConfig config, ApiClient client, List<Long> categoryIds,
+                                       List<Long> productIds, List<String> tokens) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + config.rampUp().toNanos() + config.duration().toNanos();
+        long rampStepNanos = config.users() > 1 ? config.rampUp().toNanos() / (config.users() - 1) : 0;
+
+        List<ShoppingJourney> journeys = new ArrayList<>(config.users());
+        ExecutorService executor = Executors.newFixedThreadPool(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            ShoppingJourney journey = new ShoppingJourney(client, tokens.get(i), categoryIds, productIds,
+                    deadline, config.thinkTime(), config.randomSeed() + i);
+            journeys.add(journey);
+            long startAt = start + i * rampStepNanos;
+            executor.submit(() -> {
+                long wait = startAt - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                journey.run();
+                return null;
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(deadline - System.nanoTime() + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS)) {
+            executor.shutdownNow();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        LatencyRecorder total = new LatencyRecorder();
+        journeys.forEach(journey -> journey.recorder().mergeInto(total));
+        return total;
+    }
+
+    private static void report(LoadTestConfig config, LatencyRecorder total, ObjectMapper objectMapper) throws Exception {
+        // Throughput is averaged over the full run including ramp-up
+        double seconds = config.rampUp().plus(config.duration()).toMillis() / 1000.0;
+        List<LatencyRecorder.StepSummary> steps = new ArrayList<>();
+        for (Step step : Step.values()) {
+            steps.add(total.summarize(step, seconds));
+        }
+
+        System.out.printf("%n%-16s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.StepSummary s : steps) {
+            System.out.printf("%-16s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    s.step(), s.count(), s.errors(), s.throughput(),
+                    s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("config", config);
+        result.put("steps", steps);
+        File output = new File(config.output());
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(output, result);
+        System.out.println("\nResults written to " + output.getPath());
+    }
+}
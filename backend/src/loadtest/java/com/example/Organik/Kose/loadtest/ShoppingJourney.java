@@ -0,0 +1,103 @@
+package com.example.Organik.Kose.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * One virtual shopper: browse → search → view products → add to cart → checkout, repeated
+ * until the deadline. Product choice is skewed towards a small set of popular items.
+ */
+public class ShoppingJourney implements Runnable {
+
+    private static final double SEARCH_RATE = 0.7;
+    private static final double ADD_TO_CART_RATE = 0.6;
+    private static final double CHECKOUT_RATE = 0.5;
+
+    private final ApiClient client;
+    private final String token;
+    private final List<Long> categoryIds;
+    private final List<Long> productIds;
+    private final long deadlineNanos;
+    private final Duration thinkTime;
+    private final Random random;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    public ShoppingJourney(ApiClient client, String token, List<Long> categoryIds, List<Long> productIds,
+                           long deadlineNanos, Duration thinkTime, long seed) {
+        this.client = client;
+        this.token = token;
+        this.categoryIds = categoryIds;
+        this.productIds = productIds;
+        this.deadlineNanos = deadlineNanos;
+        this.thinkTime = thinkTime;
+        this.random = new Random(seed);
+    }
+
+    public LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            session();
+        }
+    }
+
+    private void session() {
+        if (random.nextBoolean()) {
+            call(Step.LIST_PRODUCTS, client.get("/api/products", null));
+        }
+        call(Step.LIST_CATEGORIES, client.get("/api/categories", null));
+        call(Step.BROWSE_CATEGORY, client.get("/api/products/category/" + pick(categoryIds), null));
+
+        if (random.nextDouble() < SEARCH_RATE) {
+            String term = ApiSeeder.PRODUCT_WORDS[random.nextInt(ApiSeeder.PRODUCT_WORDS.length)];
+            call(Step.SEARCH, client.get("/api/products/search?q=" + ApiClient.encode(term), null));
+        }
+
+        int views = 1 + random.nextInt(3);
+        for (int i = 0; i < views; i++) {
+            call(Step.VIEW_PRODUCT, client.get("/api/products/" + popularProduct(), null));
+        }
+
+        if (random.nextDouble() >= ADD_TO_CART_RATE) {
+            return;
+        }
+        int items = 1 + random.nextInt(3);
+        for (int i = 0; i < items; i++) {
+            call(Step.ADD_TO_CART, client.post("/api/cart/add", token,
+                    Map.of("productId", popularProduct(), "quantity", 1 + random.nextInt(2))));
+        }
+        call(Step.VIEW_CART, client.get("/api/cart", token));
+
+        if (random.nextDouble() < CHECKOUT_RATE) {
+            call(Step.CHECKOUT, client.post("/api/orders/from-cart", token, Map.of()));
+            call(Step.ORDER_HISTORY, client.get("/api/orders/history?page=0&size=20", token));
+        }
+    }
+
+    private void call(Step step, ApiClient.Response response) {
+        recorder.record(step, response.nanos(), response.ok());
+        if (!thinkTime.isZero()) {
+            try {
+                Thread.sleep(thinkTime.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Long pick(List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    // Squaring a uniform value concentrates picks on the low indexes: the first 10% of
+    // products receive roughly a third of the views
+    private Long popularProduct() {
+        double u = random.nextDouble();
+        return productIds.get((int) (u * u * productIds.size()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.Organik.Kose.loadtest;
+
+public enum Step {
+    LIST_PRODUCTS,
+    LIST_CATEGORIES,
+    BROWSE_CATEGORY,
+    VIEW_PRODUCT,
+    SEARCH,
+    ADD_TO_CART,
+    VIEW_CART,
+    CHECKOUT,
+    ORDER_HISTORY
+}
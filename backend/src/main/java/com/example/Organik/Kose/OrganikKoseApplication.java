@@ -2,8 +2,10 @@ package com.example.Organik.Kose;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class OrganikKoseApplication {
 
 	public static void main(String[] args) {
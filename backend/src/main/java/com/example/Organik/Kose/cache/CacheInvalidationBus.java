@@ -0,0 +1,140 @@
+package com.example.Organik.Kose.cache;
+
+import com.example.Organik.Kose.event.CacheInvalidationEvent;
+import com.example.Organik.Kose.metrics.ShopMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Broadcasts "entity X changed" to every instance so in-memory caches (user summaries, pricing
+ * rules, the low-stock index) stay coherent when the app is scaled out. Changes made inside a
+ * transaction are collected, de-duplicated and sent as one batch after commit; a rolled back
+ * transaction sends nothing. Each instance, including the publishing one, sees the change as a
+ * {@link CacheInvalidationEvent}; {@code local} tells listeners whether their own node already
+ * applied it.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    public static final String PRODUCT = "product";
+    public static final String CATEGORY = "category";
+    public static final String USER = "user";
+    public static final String CAMPAIGN = "campaign";
+
+    private static final Object PENDING_KEY = new Object();
+
+    private final InvalidationTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShopMetrics shopMetrics;
+    private final String nodeId;
+
+    @Value("${app.cache.invalidation.max-ids-per-change:500}")
+    private int maxIdsPerChange;
+
+    public CacheInvalidationBus(InvalidationTransport transport, ApplicationEventPublisher eventPublisher,
+                                ShopMetrics shopMetrics,
+                                @Value("${app.cache.invalidation.node-id:}") String nodeId) {
+        this.transport = transport;
+        this.eventPublisher = eventPublisher;
+        this.shopMetrics = shopMetrics;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : nodeId;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        transport.start(this::receive);
+        log.info("Cache invalidation bus started on node {} using {}", nodeId, transport.getClass().getSimpleName());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publish(String entity, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(List.of(new Pending(entity, id)));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Pending> pending = (Set<Pending>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<Pending> batch = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                    if (status == STATUS_COMMITTED) {
+                        dispatch(new ArrayList<>(batch));
+                    }
+                }
+            });
+            pending = batch;
+        }
+        pending.add(new Pending(entity, id));
+    }
+
+    /**
+     * For bulk writes: one message per id, so receivers reload only those rows, or a single
+     * entity-wide message once there are more than max-ids-per-change of them.
+     */
+    public void publishAll(String entity, Collection<Long> ids) {
+        if (ids.size() > maxIdsPerChange) {
+            publish(entity, null);
+            return;
+        }
+        for (Long id : ids) {
+            publish(entity, id);
+        }
+    }
+
+    private void dispatch(List<Pending> changes) {
+        long version = System.currentTimeMillis();
+        List<InvalidationMessage> messages = new ArrayList<>(changes.size());
+        for (Pending change : changes) {
+            messages.add(new InvalidationMessage(change.entity(), change.id(), version, nodeId));
+            shopMetrics.cacheInvalidationPublished(change.entity());
+            deliver(change.entity(), change.id(), version, true);
+        }
+        try {
+            transport.publish(messages);
+        } catch (RuntimeException e) {
+            // The data is already committed; other nodes catch up through their own refresh schedules
+            log.warn("Failed to broadcast {} cache invalidations: {}", messages.size(), e.getMessage());
+        }
+    }
+
+    void receive(InvalidationMessage message) {
+        // Own messages were already delivered locally when they were dispatched
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        shopMetrics.cacheInvalidationReceived(message.entity());
+        deliver(message.entity(), message.id(), message.version(), false);
+    }
+
+    private void deliver(String entity, Long id, long version, boolean local) {
+        try {
+            eventPublisher.publishEvent(new CacheInvalidationEvent(entity, id, version, local));
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply {} invalidation for {}: {}", entity, id, e.getMessage());
+        }
+    }
+
+    private record Pending(String entity, Long id) {
+    }
+}
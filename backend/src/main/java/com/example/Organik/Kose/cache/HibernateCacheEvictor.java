@@ -0,0 +1,107 @@
+package com.example.Organik.Kose.cache;
+
+import com.example.Organik.Kose.event.CacheInvalidationEvent;
+import com.example.Organik.Kose.model.Category;
+import com.example.Organik.Kose.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Keeps Hibernate's second-level cache correct for writes Hibernate does not see: JDBC batch
+ * updates and imports on this instance, and any change committed by another instance. Query
+ * results are dropped along with the entities, since a changed aktif flag or category moves a
+ * product in or out of the cached lists.
+ *
+ * With a read replica, a read-only transaction after the eviction may load the old row from a
+ * replica that has not applied the write yet and cache it again. Every eviction is therefore
+ * repeated once the replica must have caught up: ReplicaLagMonitor only routes reads to a
+ * replica at most max-lag-seconds behind, checked every lag-check-interval-ms. Stale reads are
+ * bounded by that delay instead of the region TTL.
+ */
+@Component
+public class HibernateCacheEvictor {
+
+    private final Cache cache;
+    private final TaskScheduler taskScheduler;
+    private final Duration replicaCatchUp;
+
+    public HibernateCacheEvictor(EntityManagerFactory entityManagerFactory, TaskScheduler taskScheduler,
+                                 @Value("${app.datasource.replica.url:}") String replicaUrl,
+                                 @Value("${app.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+                                 @Value("${app.datasource.replica.lag-check-interval-ms:1000}") long lagCheckIntervalMs) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.taskScheduler = taskScheduler;
+        this.replicaCatchUp = replicaUrl.isBlank() ? null
+                : Duration.ofSeconds(maxLagSeconds).plusMillis(lagCheckIntervalMs);
+    }
+
+    // Ahead of every other listener, so StockMonitorService and the like reload from the database
+    // rather than from the stale cache entry
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(condition = "!#event.local")
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.isFor(CacheInvalidationBus.PRODUCT)) {
+            evictWithReplicaCatchUp(() -> evict(Product.class, event.getId()));
+        } else if (event.isFor(CacheInvalidationBus.CATEGORY)) {
+            evictWithReplicaCatchUp(() -> evict(Category.class, event.getId()));
+        }
+    }
+
+    /**
+     * For products written through JDBC; null evicts every product. Inside a transaction the
+     * entries are evicted again after it completes, so a read racing the write cannot leave
+     * the old row cached.
+     */
+    public void evictProducts(Collection<Long> productIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictWithReplicaCatchUp(() -> evictProductsNow(productIds));
+            return;
+        }
+        evictProductsNow(productIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictWithReplicaCatchUp(() -> evictProductsNow(productIds));
+            }
+        });
+    }
+
+    private void evictWithReplicaCatchUp(Runnable eviction) {
+        eviction.run();
+        if (replicaCatchUp != null) {
+            taskScheduler.schedule(eviction, Instant.now().plus(replicaCatchUp));
+        }
+    }
+
+    private void evictProductsNow(Collection<Long> productIds) {
+        if (productIds == null) {
+            evict(Product.class, null);
+            return;
+        }
+        for (Long id : productIds) {
+            cache.evictEntityData(Product.class, id);
+        }
+        cache.evictQueryRegions();
+    }
+
+    private void evict(Class<?> entity, Long id) {
+        if (id == null) {
+            cache.evictEntityData(entity);
+        } else {
+            cache.evictEntityData(entity, id);
+        }
+        cache.evictQueryRegions();
+    }
+}
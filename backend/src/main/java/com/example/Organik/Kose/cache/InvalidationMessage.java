@@ -0,0 +1,9 @@
+package com.example.Organik.Kose.cache;
+
+/**
+ * One changed entity, or every entity of a type when {@code id} is null (bulk imports).
+ * {@code version} is the publishing node's commit time in milliseconds; {@code origin} is
+ * the publishing node's id, so a node can ignore its own messages.
+ */
+public record InvalidationMessage(String entity, Long id, long version, String origin) {
+}
@@ -0,0 +1,15 @@
+package com.example.Organik.Kose.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation messages between application instances. Delivery is at-least-once and
+ * unordered; receivers only evict or reload, so duplicates and reordering are harmless.
+ */
+public interface InvalidationTransport {
+
+    void start(Consumer<InvalidationMessage> receiver);
+
+    void publish(List<InvalidationMessage> messages);
+}
@@ -0,0 +1,127 @@
+package com.example.Organik.Kose.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Shares invalidations through the cache_invalidations table: publishers insert rows, every
+ * instance reads the rows after the highest id it has handled, page by page until a page comes
+ * back short, so a burst larger than batch-size is drained in one poll. An id is allocated at
+ * insert but only becomes visible at commit, so a lower id can appear after a higher one; ids
+ * skipped by the scan are re-checked on every poll for grace-ms (ids of rolled back inserts
+ * never appear and expire). Instances converge within poll-interval-ms.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "jdbc")
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidations (entity, entity_id, version, origin) VALUES (?, ?, ?, ?)";
+
+    private static final String COLUMNS = "SELECT id, entity, entity_id, version, origin FROM cache_invalidations ";
+
+    private static final String POLL_SQL = COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.cache.invalidation.jdbc.grace-ms:5000}")
+    private long graceMs;
+
+    @Value("${app.cache.invalidation.jdbc.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.cache.invalidation.jdbc.retention-ms:3600000}")
+    private long retentionMs;
+
+    private volatile Consumer<InvalidationMessage> receiver;
+
+    // Poller state, only touched by the scheduler thread: the highest id handled, and the ids
+    // below it not seen yet with the time they were first missed
+    private long lastId;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    @Override
+    public void start(Consumer<InvalidationMessage> receiver) {
+        // Caches start empty, so history before startup is irrelevant
+        lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidations", Long.class);
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void publish(List<InvalidationMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.entity());
+            ps.setObject(2, message.id());
+            ps.setLong(3, message.version());
+            ps.setString(4, message.origin());
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        Consumer<InvalidationMessage> target = receiver;
+        if (target == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (!gaps.isEmpty()) {
+            rescanGaps(target);
+            gaps.values().removeIf(missedAt -> now - missedAt > graceMs);
+        }
+
+        int rows;
+        do {
+            int[] count = new int[1];
+            jdbcTemplate.query(POLL_SQL, rs -> {
+                count[0]++;
+                long id = rs.getLong("id");
+                // Bounded so a jump in the id sequence cannot grow the re-scan without limit
+                for (long missing = lastId + 1; missing < id && gaps.size() < batchSize; missing++) {
+                    gaps.put(missing, now);
+                }
+                lastId = id;
+                target.accept(message(rs));
+            }, lastId, batchSize);
+            rows = count[0];
+        } while (rows == batchSize);
+    }
+
+    private void rescanGaps(Consumer<InvalidationMessage> target) {
+        String placeholders = String.join(", ", Collections.nCopies(gaps.size(), "?"));
+        jdbcTemplate.query(COLUMNS + "WHERE id IN (" + placeholders + ")", rs -> {
+            gaps.remove(rs.getLong("id"));
+            target.accept(message(rs));
+        }, gaps.keySet().toArray());
+    }
+
+    private static InvalidationMessage message(ResultSet rs) throws SQLException {
+        long entityId = rs.getLong("entity_id");
+        return new InvalidationMessage(rs.getString("entity"), rs.wasNull() ? null : entityId,
+                rs.getLong("version"), rs.getString("origin"));
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.jdbc.prune-interval-ms:60000}")
+    public void prune() {
+        int deleted = jdbcTemplate.update("DELETE FROM cache_invalidations WHERE created_at < ?",
+                new Timestamp(System.currentTimeMillis() - retentionMs));
+        if (deleted > 0) {
+            log.debug("Pruned {} cache invalidation rows", deleted);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.Organik.Kose.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * Delivers to every application context in the same JVM. With one instance this is a no-op
+ * beyond local delivery; with several contexts started side by side (tests, load-test
+ * harnesses) it behaves like a real cluster transport with zero delay.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "local", matchIfMissing = true)
+public class LocalInvalidationTransport implements InvalidationTransport {
+
+    private static final Set<Consumer<InvalidationMessage>> RECEIVERS = new CopyOnWriteArraySet<>();
+
+    private Consumer<InvalidationMessage> receiver;
+
+    @Override
+    public void start(Consumer<InvalidationMessage> receiver) {
+        this.receiver = receiver;
+        RECEIVERS.add(receiver);
+    }
+
+    @Override
+    public void publish(List<InvalidationMessage> messages) {
+        for (Consumer<InvalidationMessage> target : RECEIVERS) {
+            messages.forEach(target);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (receiver != null) {
+            RECEIVERS.remove(receiver);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.Organik.Kose.cache;
+
+import com.example.Organik.Kose.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link User}: any update or delete flushed through Hibernate publishes a USER
+ * invalidation, so every instance drops its cached summary once the transaction commits. Bulk
+ * JPQL updates bypass it; the only one, the password rehash, changes no summary field.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserInvalidationListener {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        cacheInvalidationBus.publish(CacheInvalidationBus.USER, user.getId());
+    }
+}
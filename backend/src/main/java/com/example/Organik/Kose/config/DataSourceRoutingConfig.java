@@ -0,0 +1,69 @@
+package com.example.Organik.Kose.config;
+
+import com.example.Organik.Kose.datasource.ReadWriteRoutingDataSource;
+import com.example.Organik.Kose.datasource.ReadWriteRoutingDataSource.Route;
+import com.example.Organik.Kose.datasource.ReadYourWritesTracker;
+import com.example.Organik.Kose.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Primary/replica datasource pair, enabled when app.datasource.replica.url is set.
+ * Both pools share the spring.datasource.hikari.* tuning.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        bindHikariSettings(dataSource, environment);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = new HikariDataSource();
+        bindHikariSettings(dataSource, environment);
+        dataSource.setJdbcUrl(environment.getRequiredProperty("app.datasource.replica.url"));
+        dataSource.setUsername(environment.getProperty("app.datasource.replica.username", properties.determineUsername()));
+        dataSource.setPassword(environment.getProperty("app.datasource.replica.password", properties.determinePassword()));
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setPoolName((dataSource.getPoolName() != null ? dataSource.getPoolName() : "organik-kose") + "-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource, Environment environment) {
+        return new ReplicaLagMonitor(replicaDataSource,
+                environment.getProperty("app.datasource.replica.max-lag-seconds", Long.class, 5L));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routing.setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static void bindHikariSettings(HikariDataSource dataSource, Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+    }
+}
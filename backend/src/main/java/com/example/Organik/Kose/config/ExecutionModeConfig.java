@@ -0,0 +1,43 @@
+package com.example.Organik.Kose.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Request and @Async execution mode. With spring.threads.virtual.enabled=true (Java 21+),
+ * Tomcat, the application task executor and the scheduler run on virtual threads; otherwise
+ * the platform thread pools configured under server.tomcat.threads.* are used.
+ *
+ * Blocking JDBC calls do not pin carrier threads: Connector/J 9.x and HikariCP guard their
+ * state with java.util.concurrent locks, and the app's own shared state does the same
+ * (see RecommendationService). New code on the request path should avoid synchronized
+ * blocks around I/O for the same reason.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class ExecutionModeConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int maxPlatformThreads;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logExecutionMode() {
+        int javaVersion = Runtime.version().feature();
+        if (virtualThreadsRequested && javaVersion < 21) {
+            log.warn("spring.threads.virtual.enabled is set but the JVM is Java {}; using platform threads (max {})",
+                    javaVersion, maxPlatformThreads);
+        } else if (virtualThreadsRequested) {
+            log.info("Request and @Async execution: virtual threads");
+        } else {
+            log.info("Request and @Async execution: platform threads (max {})", maxPlatformThreads);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.Organik.Kose.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * The single password encoder of the application.
+ *
+ * Hashes are stored as {bcrypt}...; hashes written before the prefix existed are still
+ * matched as BCrypt and rewritten on the next successful login. Unless a strength is
+ * configured, the BCrypt work factor is calibrated at startup to the highest value whose
+ * hash time stays within the latency target, never below the minimum.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+
+    @Value("${app.security.password.bcrypt-strength:0}")
+    private int bcryptStrength;
+
+    @Value("${app.security.password.min-strength:10}")
+    private int minStrength;
+
+    @Value("${app.security.password.max-strength:14}")
+    private int maxStrength;
+
+    @Value("${app.security.password.target-ms:100}")
+    private long targetMs;
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return encoder(bcryptStrength > 0 ? bcryptStrength : calibrate(minStrength, maxStrength, targetMs));
+    }
+
+    /**
+     * The encoder the bean is built from; PasswordHashingBenchmark measures the same one.
+     */
+    public static PasswordEncoder encoder(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    public static int calibrate(int minStrength, int maxStrength, long targetMs) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration");
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        double ms = (System.nanoTime() - start) / 1_000_000.0;
+
+        // Each strength step doubles the cost
+        int strength = minStrength;
+        double estimate = ms;
+        while (strength < maxStrength && estimate * 2 <= targetMs) {
+            strength++;
+            estimate *= 2;
+        }
+        log.info("BCrypt strength {} selected (~{} ms per hash, target {} ms)", strength, Math.round(estimate), targetMs);
+        return strength;
+    }
+}
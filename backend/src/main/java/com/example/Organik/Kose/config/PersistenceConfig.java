@@ -0,0 +1,40 @@
+package com.example.Organik.Kose.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Production connection pool sizing. Unless app.datasource.pool.max-size is set, the pool is
+ * sized as (cores * 2) + 1: enough connections to keep the database busy while requests wait
+ * on I/O, without queueing work inside MySQL. The pool is fixed-size (minimum idle = maximum)
+ * so checkout bursts do not pay for connection establishment.
+ */
+@Slf4j
+@Configuration
+@Profile("prod")
+public class PersistenceConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int configured = environment.getProperty("app.datasource.pool.max-size", Integer.class, 0);
+                    int poolSize = configured > 0
+                            ? configured
+                            : Runtime.getRuntime().availableProcessors() * 2 + 1;
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    log.info("Hikari pool '{}' sized to {} connections", dataSource.getPoolName(), poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.Organik.Kose.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache regions, held on-heap by Ehcache behind JCache. Products and
+ * categories are cached by id and the cacheable repository queries by their parameters; each
+ * region has an entry cap (least recently used entries are dropped first) and a time to live,
+ * the latter bounding staleness if an invalidation from another instance is ever missed.
+ * The update-timestamps region, which tells Hibernate when a table last changed, holds one
+ * entry per table and must never expire ahead of the query results that depend on it.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String PRODUCT_REGION = "products";
+    public static final String CATEGORY_REGION = "categories";
+    public static final String QUERY_REGION = "default-query-results-region";
+    public static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${app.cache.l2.products.max-entries:20000}")
+    private long productEntries;
+
+    @Value("${app.cache.l2.products.ttl-ms:600000}")
+    private long productTtlMs;
+
+    @Value("${app.cache.l2.categories.max-entries:1000}")
+    private long categoryEntries;
+
+    @Value("${app.cache.l2.categories.ttl-ms:3600000}")
+    private long categoryTtlMs;
+
+    @Value("${app.cache.l2.queries.max-entries:2000}")
+    private long queryEntries;
+
+    @Value("${app.cache.l2.queries.ttl-ms:300000}")
+    private long queryTtlMs;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        ClassLoader classLoader = getClass().getClassLoader();
+        // A URI of its own, so several application contexts in one JVM do not share regions
+        CacheManager cacheManager = provider.getCacheManager(URI.create("urn:organik-kose:l2:" + UUID.randomUUID()),
+                new DefaultConfiguration(classLoader));
+        createRegion(cacheManager, PRODUCT_REGION, productEntries, productTtlMs);
+        createRegion(cacheManager, CATEGORY_REGION, categoryEntries, categoryTtlMs);
+        createRegion(cacheManager, QUERY_REGION, queryEntries, queryTtlMs);
+        cacheManager.createCache(TIMESTAMPS_REGION, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1000))
+                        .withExpiry(ExpiryPolicyBuilder.noExpiration())));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Every region is created above; a missing one is a mapping mistake
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxEntries, long ttlMs) {
+        cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                        .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofMillis(ttlMs)))));
+    }
+}
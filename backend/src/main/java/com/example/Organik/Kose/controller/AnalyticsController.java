@@ -0,0 +1,65 @@
+package com.example.Organik.Kose.controller;
+
+import com.example.Organik.Kose.dto.RevenueReportDTO;
+import com.example.Organik.Kose.dto.SalesVelocityDTO;
+import com.example.Organik.Kose.service.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @GetMapping("/sales/velocity/{productId}")
+    public ResponseEntity<SalesVelocityDTO> getSalesVelocity(@PathVariable Long productId) {
+        try {
+            SalesVelocityDTO velocity = salesAnalyticsService.getVelocity(productId);
+            return ResponseEntity.ok(velocity);
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/sales/reorder-suggestions")
+    public ResponseEntity<List<SalesVelocityDTO>> getReorderSuggestions(@RequestParam(defaultValue = "50") int limit) {
+        List<SalesVelocityDTO> suggestions = salesAnalyticsService.getReorderSuggestions(limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<String> rebuildSalesRollups() {
+        try {
+            long processed = salesAnalyticsService.rebuildSalesRollups();
+            return ResponseEntity.ok("Rebuilt sales rollups from " + processed + " order lines");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<RevenueReportDTO> getRevenueReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        RevenueReportDTO report = salesAnalyticsService.getRevenueReport(from, to);
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping("/revenue/rebuild")
+    public ResponseEntity<String> rebuildRevenueRollups() {
+        try {
+            long months = salesAnalyticsService.rebuildRevenueRollups();
+            return ResponseEntity.ok("Rebuilt revenue rollups for " + months + " months");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+}
@@ -5,9 +5,15 @@ import com.example.Organik.Kose.dto.LoginRequest;
 import com.example.Organik.Kose.dto.RegisterRequest;
 import com.example.Organik.Kose.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -16,23 +22,39 @@ public class AuthController {
 
     private final UserService userService;
 
+    @Value("${app.security.password.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    // Hashing runs off the request thread; the servlet thread is released until it completes
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@RequestBody LoginRequest request) {
         try {
-            AuthResponse response = userService.login(request);
-            return ResponseEntity.ok(response);
+            return userService.login(request)
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> ResponseEntity.badRequest().build());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
         } catch (Exception e) {
-            return ResponseEntity.badRequest().build();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
     }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> register(@RequestBody RegisterRequest request) {
         try {
-            AuthResponse response = userService.register(request);
-            return ResponseEntity.ok(response);
+            return userService.register(request)
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> ResponseEntity.badRequest().build());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
         } catch (Exception e) {
-            return ResponseEntity.badRequest().build();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
     }
+
+    private ResponseEntity<AuthResponse> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
 }
@@ -0,0 +1,105 @@
+package com.example.Organik.Kose.controller;
+
+import com.example.Organik.Kose.model.Campaign;
+import com.example.Organik.Kose.model.User;
+import com.example.Organik.Kose.service.CampaignService;
+import com.example.Organik.Kose.service.UserSummaryCache;
+import com.example.Organik.Kose.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Campaigns carry their coupon codes, so every endpoint is admin only
+@Slf4j
+@RestController
+@RequestMapping("/api/campaigns")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class CampaignController {
+
+    private final CampaignService campaignService;
+    private final UserSummaryCache userSummaryCache;
+
+    @GetMapping
+    public ResponseEntity<List<Campaign>> getAllCampaigns(@RequestAttribute(value = JwtUtil.USER_ID_ATTRIBUTE, required = false) Long userId) {
+        HttpStatus denied = checkAdmin(userId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        return ResponseEntity.ok(campaignService.getAllCampaigns());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Campaign> getCampaignById(@PathVariable Long id,
+                                                    @RequestAttribute(value = JwtUtil.USER_ID_ATTRIBUTE, required = false) Long userId) {
+        HttpStatus denied = checkAdmin(userId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        try {
+            return ResponseEntity.ok(campaignService.getCampaignById(id));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createCampaign(@RequestBody Campaign campaign,
+                                            @RequestAttribute(value = JwtUtil.USER_ID_ATTRIBUTE, required = false) Long userId) {
+        HttpStatus denied = checkAdmin(userId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        try {
+            return ResponseEntity.ok(campaignService.createCampaign(campaign));
+        } catch (Exception e) {
+            log.warn("Campaign creation failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateCampaign(@PathVariable Long id, @RequestBody Campaign campaign,
+                                            @RequestAttribute(value = JwtUtil.USER_ID_ATTRIBUTE, required = false) Long userId) {
+        HttpStatus denied = checkAdmin(userId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        try {
+            return ResponseEntity.ok(campaignService.updateCampaign(id, campaign));
+        } catch (Exception e) {
+            log.warn("Campaign {} update failed: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteCampaign(@PathVariable Long id,
+                                               @RequestAttribute(value = JwtUtil.USER_ID_ATTRIBUTE, required = false) Long userId) {
+        HttpStatus denied = checkAdmin(userId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        try {
+            campaignService.deleteCampaign(id);
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    private HttpStatus checkAdmin(Long userId) {
+        if (userId == null) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        try {
+            return userSummaryCache.get(userId).getRole() == User.Role.ADMIN ? null : HttpStatus.FORBIDDEN;
+        } catch (Exception e) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+    }
+}
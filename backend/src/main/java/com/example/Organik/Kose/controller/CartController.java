@@ -1,14 +1,17 @@
 package com.example.Organik.Kose.controller;
 
+import com.example.Organik.Kose.dto.PricedCart;
 import com.example.Organik.Kose.model.Cart;
 import com.example.Organik.Kose.service.CartService;
 import com.example.Organik.Kose.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/cart")
 @RequiredArgsConstructor
@@ -16,31 +19,21 @@ import java.util.List;
 public class CartController {
 
     private final CartService cartService;
-    private final JwtUtil jwtUtil;
 
     @PostMapping("/add")
-    public ResponseEntity<String> addToCart(@RequestBody AddToCartRequest request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<String> addToCart(@RequestBody AddToCartRequest request, @RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            Long userId = jwtUtil.extractUserId(jwt);
-
-            System.out.println("Adding to cart - User ID: " + userId + ", Product ID: " + request.getProductId() + ", Quantity: " + request.getQuantity());
-
             cartService.addToCart(userId, request.getProductId(), request.getQuantity());
             return ResponseEntity.ok("Product added to cart successfully");
         } catch (Exception e) {
-            System.err.println("Error adding to cart: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Error adding to cart: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Error adding product to cart: " + e.getMessage());
         }
     }
 
     @GetMapping
-    public ResponseEntity<List<Cart>> getCartItems(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<Cart>> getCartItems(@RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            Long userId = jwtUtil.extractUserId(jwt);
-
             List<Cart> cartItems = cartService.getCartItems(userId);
             return ResponseEntity.ok(cartItems);
         } catch (Exception e) {
@@ -48,12 +41,19 @@ public class CartController {
         }
     }
 
-    @PutMapping("/update")
-    public ResponseEntity<String> updateCartItem(@RequestBody UpdateCartRequest request, @RequestHeader("Authorization") String token) {
+    @GetMapping("/summary")
+    public ResponseEntity<PricedCart> getCartSummary(@RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId,
+                                                     @RequestParam(required = false) String coupon) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            Long userId = jwtUtil.extractUserId(jwt);
+            return ResponseEntity.ok(cartService.getCartSummary(userId, coupon));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
+    @PutMapping("/update")
+    public ResponseEntity<String> updateCartItem(@RequestBody UpdateCartRequest request, @RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
+        try {
             cartService.updateCartItemQuantity(userId, request.getProductId(), request.getQuantity());
             return ResponseEntity.ok("Cart item updated successfully");
         } catch (Exception e) {
@@ -62,11 +62,8 @@ public class CartController {
     }
 
     @DeleteMapping("/remove/{productId}")
-    public ResponseEntity<String> removeFromCart(@PathVariable Long productId, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<String> removeFromCart(@PathVariable Long productId, @RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            Long userId = jwtUtil.extractUserId(jwt);
-
             cartService.removeFromCart(userId, productId);
             return ResponseEntity.ok("Product removed from cart successfully");
         } catch (Exception e) {
@@ -75,11 +72,8 @@ public class CartController {
     }
 
     @DeleteMapping("/clear")
-    public ResponseEntity<String> clearCart(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<String> clearCart(@RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            Long userId = jwtUtil.extractUserId(jwt);
-
             cartService.clearCart(userId);
             return ResponseEntity.ok("Cart cleared successfully");
         } catch (Exception e) {
@@ -1,14 +1,25 @@
 package com.example.Organik.Kose.controller;
 
 import com.example.Organik.Kose.dto.OrderDTO;
+import com.example.Organik.Kose.dto.OrderHistoryPage;
+import com.example.Organik.Kose.metrics.ShopMetrics;
+import com.example.Organik.Kose.model.User;
+import com.example.Organik.Kose.service.OrderEventHub;
 import com.example.Organik.Kose.service.OrderService;
+import com.example.Organik.Kose.service.UserSummaryCache;
 import com.example.Organik.Kose.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
@@ -17,14 +28,13 @@ public class OrderController {
 
     private final OrderService orderService;
     private final JwtUtil jwtUtil;
+    private final ShopMetrics shopMetrics;
+    private final OrderEventHub orderEventHub;
+    private final UserSummaryCache userSummaryCache;
 
     @PostMapping
-    public ResponseEntity<OrderDTO> createOrder(@RequestBody OrderDTO orderDTO, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<OrderDTO> createOrder(@RequestBody OrderDTO orderDTO, @RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            String userEmail = jwtUtil.extractUsername(jwt);
-            Long userId = jwtUtil.extractUserId(jwt);
-
             OrderDTO createdOrder = orderService.createOrder(userId, orderDTO);
             return ResponseEntity.ok(createdOrder);
         } catch (Exception e) {
@@ -33,30 +43,24 @@ public class OrderController {
     }
 
     @PostMapping("/from-cart")
-    public ResponseEntity<?> createOrderFromCart(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> createOrderFromCart(@RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId,
+                                                 @RequestParam(required = false) String coupon) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            String userEmail = jwtUtil.extractUsername(jwt);
-            Long userId = jwtUtil.extractUserId(jwt);
-
-            System.out.println("Creating order for user: " + userEmail + " (ID: " + userId + ")");
+            log.debug("Creating order for user ID: {}", userId);
 
-            OrderDTO createdOrder = orderService.createOrderFromCart(userId);
+            OrderDTO createdOrder = orderService.createOrderFromCart(userId, coupon);
+            shopMetrics.checkoutSucceeded();
             return ResponseEntity.ok(createdOrder);
         } catch (Exception e) {
-            System.err.println("Order creation failed: " + e.getMessage());
-            e.printStackTrace();
+            shopMetrics.checkoutFailed(e);
+            log.warn("Order creation failed: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
 
     @GetMapping("/my-orders")
-    public ResponseEntity<List<OrderDTO>> getUserOrders(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<OrderDTO>> getUserOrders(@RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
         try {
-            String jwt = token.replace("Bearer ", "");
-            String userEmail = jwtUtil.extractUsername(jwt);
-            Long userId = jwtUtil.extractUserId(jwt);
-
             List<OrderDTO> orders = orderService.getUserOrders(userId);
             return ResponseEntity.ok(orders);
         } catch (Exception e) {
@@ -64,6 +68,69 @@ public class OrderController {
         }
     }
 
+    @GetMapping("/history")
+    public ResponseEntity<OrderHistoryPage> getOrderHistory(@RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId,
+                                                            @RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(orderService.getOrderHistory(userId, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/history/{id}")
+    public ResponseEntity<OrderDTO> getOrderHistoryDetail(@PathVariable Long id, @RequestAttribute(JwtUtil.USER_ID_ATTRIBUTE) Long userId) {
+        try {
+            return ResponseEntity.ok(orderService.getUserOrder(userId, id));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // EventSource cannot send headers, so the token may also be passed as a query parameter;
+    // only that one is parsed here, a header token has already been verified by RequestUserFilter
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMyOrderEvents(@RequestAttribute(value = JwtUtil.USER_ID_ATTRIBUTE, required = false) Long verifiedUserId,
+                                                          @RequestParam(required = false) String token) {
+        Long userId;
+        try {
+            userId = resolveUserId(verifiedUserId, token);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return subscribe(userId);
+    }
+
+    @GetMapping(value = "/events/all", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAllOrderEvents(@RequestAttribute(value = JwtUtil.USER_ID_ATTRIBUTE, required = false) Long verifiedUserId,
+                                                           @RequestParam(required = false) String token) {
+        try {
+            Long userId = resolveUserId(verifiedUserId, token);
+            if (userSummaryCache.get(userId).getRole() != User.Role.ADMIN) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return subscribe(null);
+    }
+
+    private ResponseEntity<SseEmitter> subscribe(Long userId) {
+        try {
+            return ResponseEntity.ok(orderEventHub.subscribe(userId));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    private Long resolveUserId(Long verifiedUserId, String token) {
+        if (verifiedUserId != null) {
+            return verifiedUserId;
+        }
+        return jwtUtil.extractUserId(token);
+    }
+
     @GetMapping
     public ResponseEntity<List<OrderDTO>> getAllOrders() {
         try {
@@ -87,18 +154,13 @@ public class OrderController {
     @PutMapping("/{id}/status")
     public ResponseEntity<OrderDTO> updateOrderStatus(@PathVariable Long id, @RequestBody String status) {
         try {
-            System.out.println("Updating order " + id + " status to: " + status);
-
             // Remove quotes if present (JSON string parsing)
             String cleanStatus = status.replaceAll("^\"|\"$", "");
-            System.out.println("Clean status: " + cleanStatus);
 
             OrderDTO updatedOrder = orderService.updateOrderStatus(id, cleanStatus);
-            System.out.println("Order updated successfully");
             return ResponseEntity.ok(updatedOrder);
         } catch (Exception e) {
-            System.err.println("Error updating order status: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Error updating order {} status: {}", id, e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
@@ -109,8 +171,7 @@ public class OrderController {
             int updatedCount = orderService.migrateOrderStatuses();
             return ResponseEntity.ok("Updated " + updatedCount + " orders to Turkish status");
         } catch (Exception e) {
-            System.err.println("Error migrating order statuses: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error migrating order statuses: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
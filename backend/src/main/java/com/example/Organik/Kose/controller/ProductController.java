@@ -1,11 +1,24 @@
 package com.example.Organik.Kose.controller;
 
+import com.example.Organik.Kose.dto.LowStockItem;
+import com.example.Organik.Kose.dto.ProductBulkUpdateItem;
+import com.example.Organik.Kose.dto.ProductBulkUpdateResult;
 import com.example.Organik.Kose.dto.ProductDTO;
+import com.example.Organik.Kose.dto.ProductImportResult;
+import com.example.Organik.Kose.dto.RelatedProductDTO;
+import com.example.Organik.Kose.service.ProductImageService;
+import com.example.Organik.Kose.service.ProductImportExportService;
 import com.example.Organik.Kose.service.ProductService;
+import com.example.Organik.Kose.service.RecommendationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,6 +28,9 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportExportService productImportExportService;
+    private final RecommendationService recommendationService;
+    private final ProductImageService productImageService;
 
     @GetMapping
     public ResponseEntity<List<ProductDTO>> getAllProducts() {
@@ -32,12 +48,24 @@ public class ProductController {
         }
     }
 
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedProductDTO>> getRelatedProducts(@PathVariable Long id, @RequestParam(defaultValue = "8") int limit) {
+        List<RelatedProductDTO> related = recommendationService.getRelatedProducts(id, limit);
+        return ResponseEntity.ok(related);
+    }
+
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<List<ProductDTO>> getProductsByCategory(@PathVariable Long categoryId) {
         List<ProductDTO> products = productService.getProductsByCategory(categoryId);
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/low-stock")
+    public ResponseEntity<List<LowStockItem>> getLowStockProducts(@RequestParam(defaultValue = "100") int limit) {
+        List<LowStockItem> products = productService.getLowStockProducts(limit);
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<ProductDTO>> searchProducts(@RequestParam String q) {
         List<ProductDTO> products = productService.searchProducts(q);
@@ -64,6 +92,32 @@ public class ProductController {
         }
     }
 
+    @PostMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProductDTO> uploadProductImage(@PathVariable Long id, @RequestParam("file") MultipartFile file) {
+        try {
+            productService.getProductById(id);
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+        try (InputStream in = file.getInputStream()) {
+            ProductDTO image = new ProductDTO();
+            image.setResimUrl(productImageService.store(in));
+            return ResponseEntity.ok(productService.updateProduct(id, image));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<ProductBulkUpdateResult> bulkUpdateProducts(@RequestBody List<ProductBulkUpdateItem> items) {
+        try {
+            ProductBulkUpdateResult result = productService.bulkUpdate(items);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
         try {
@@ -73,4 +127,30 @@ public class ProductController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ProductImportResult> importProducts(InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        try {
+            ProductImportResult result = productImportExportService.importProducts(
+                    body, ProductImportExportService.Format.fromContentType(contentType));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "csv") String format) {
+        ProductImportExportService.Format exportFormat = "ndjson".equalsIgnoreCase(format)
+                ? ProductImportExportService.Format.NDJSON
+                : ProductImportExportService.Format.CSV;
+        String extension = exportFormat == ProductImportExportService.Format.NDJSON ? "ndjson" : "csv";
+
+        StreamingResponseBody body = out -> productImportExportService.exportProducts(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat == ProductImportExportService.Format.NDJSON
+                        ? "application/x-ndjson" : "text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products." + extension)
+                .body(body);
+    }
 }
@@ -0,0 +1,61 @@
+package com.example.Organik.Kose.datasource;
+
+import com.example.Organik.Kose.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers users who have just written (e.g. checked out) so that their read-only
+ * transactions stay on the primary until the replica has had time to catch up.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    @Value("${app.datasource.replica.sticky-ms:10000}")
+    private long stickyMs;
+
+    public void markWrite(Long userId) {
+        if (userId != null) {
+            pinnedUntil.put(userId, System.currentTimeMillis() + stickyMs);
+        }
+    }
+
+    public boolean isCurrentUserPinned() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            pinnedUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until < now);
+    }
+
+    private static Long currentUserId() {
+        // Set by RequestUserFilter from the bearer token
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (Long) attributes.getAttribute(JwtUtil.USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.Organik.Kose.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Polls the replica's replication delay. The replica only serves reads while it is reachable,
+ * replicating and no more than maxLagSeconds behind; otherwise reads fall back to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean healthy;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.jdbcTemplate.setQueryTimeout(2);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean nowHealthy;
+        try {
+            List<Long> lags = jdbcTemplate.query("SHOW REPLICA STATUS", (rs, rowNum) -> secondsBehind(rs));
+            // No replication status: a standalone server used as a stand-in, always current
+            long lag = lags.isEmpty() ? 0 : (lags.get(0) != null ? lags.get(0) : -1);
+            lagSeconds = lag;
+            nowHealthy = lag >= 0 && lag <= maxLagSeconds;
+        } catch (Exception e) {
+            lagSeconds = -1;
+            nowHealthy = false;
+            if (healthy) {
+                log.warn("Replica lag check failed: {}", e.getMessage());
+            }
+        }
+
+        if (nowHealthy != healthy) {
+            log.info("Replica {} for reads (lag: {} s, max: {} s)",
+                    nowHealthy ? "enabled" : "disabled", lagSeconds, maxLagSeconds);
+        }
+        healthy = nowHealthy;
+    }
+
+    private static Long secondsBehind(ResultSet rs) throws SQLException {
+        long value;
+        try {
+            value = rs.getLong("Seconds_Behind_Source");
+        } catch (SQLException e) {
+            // MySQL before 8.0.22
+            value = rs.getLong("Seconds_Behind_Master");
+        }
+        // NULL means the replication threads are not running
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.Organik.Kose.datasource;
+
+import com.example.Organik.Kose.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Verifies the bearer token once per request and stores the caller's user id as the
+ * {@link JwtUtil#USER_ID_ATTRIBUTE} request attribute. Controllers authenticate from the
+ * token themselves, so there is no security principal; {@link ReadYourWritesTracker} and
+ * the filters and controllers after this one read the attribute instead of parsing the
+ * token again. Invalid or expired tokens leave the attribute unset.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@RequiredArgsConstructor
+public class RequestUserFilter extends OncePerRequestFilter {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod()) || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                request.setAttribute(JwtUtil.USER_ID_ATTRIBUTE, jwtUtil.extractUserId(authHeader.substring(7)));
+            } catch (Exception e) {
+                // The endpoint rejects the token; reads are routed like an anonymous caller's
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
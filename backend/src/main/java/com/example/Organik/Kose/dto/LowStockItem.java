@@ -0,0 +1,16 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class LowStockItem {
+    private Long productId;
+    private String isim;
+    private Integer stok;
+    private Integer threshold;
+    private LocalDateTime since;
+}
@@ -9,5 +9,6 @@ public class OrderDetailDTO {
     private String productName;
     private Integer quantity;
     private BigDecimal price;
+    private BigDecimal discount;
 }
 
@@ -0,0 +1,15 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class OrderHistoryPage {
+    private List<OrderSummaryDTO> orders;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDTO {
+    private Long id;
+    private LocalDateTime orderDate;
+    private String status;
+    private BigDecimal totalAmount;
+    private Long itemCount;
+}
@@ -0,0 +1,22 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricedCart {
+    private List<PricedCartLine> lines;
+    private BigDecimal subtotal;
+    private BigDecimal discount;
+    private BigDecimal total;
+    private String couponCode;
+    private boolean couponApplied;
+    // Why a submitted coupon was not applied
+    private String couponMessage;
+}
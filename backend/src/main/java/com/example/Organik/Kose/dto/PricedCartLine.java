@@ -0,0 +1,22 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricedCartLine {
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal lineTotal;
+    // Campaign and coupon discount together
+    private BigDecimal discount;
+    private BigDecimal total;
+    private String campaign;
+}
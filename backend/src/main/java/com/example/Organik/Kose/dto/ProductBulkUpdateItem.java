@@ -0,0 +1,13 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class ProductBulkUpdateItem {
+    private Long productId;
+    private BigDecimal fiyat;
+    private Integer stok;
+    private Boolean aktif;
+}
@@ -0,0 +1,14 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ProductBulkUpdateResult {
+    private int requested;
+    private int updated;
+    private List<Long> notFound = new ArrayList<>();
+    private long durationMs;
+}
@@ -12,6 +12,7 @@ public class ProductDTO {
     private String açıklama;
     private String resimUrl;
     private Integer stok;
+    private Integer stokEsigi;
     private Boolean aktif;
     private Long categoryId;
     private String categoryName;
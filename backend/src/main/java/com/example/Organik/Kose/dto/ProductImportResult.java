@@ -0,0 +1,24 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ProductImportResult {
+    private int totalRows;
+    private int inserted;
+    private int updated;
+    private int failed;
+    private long durationMs;
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
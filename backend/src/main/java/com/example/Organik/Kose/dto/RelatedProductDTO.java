@@ -0,0 +1,16 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class RelatedProductDTO {
+    private Long productId;
+    private String isim;
+    private BigDecimal fiyat;
+    private String resimUrl;
+    private int score;
+}
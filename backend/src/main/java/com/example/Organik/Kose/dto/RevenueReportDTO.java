@@ -0,0 +1,18 @@
+package com.example.Organik.Kose.dto;
+
+import com.example.Organik.Kose.model.DailySales;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class RevenueReportDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private long orderCount;
+    private long units;
+    private BigDecimal revenue;
+    private List<DailySales> rows;
+}
@@ -0,0 +1,18 @@
+package com.example.Organik.Kose.dto;
+
+import lombok.Data;
+
+@Data
+public class SalesVelocityDTO {
+    private Long productId;
+    private String isim;
+    private Integer stok;
+    private int shortWindowDays;
+    private int longWindowDays;
+    private long unitsSoldShortWindow;
+    private long unitsSoldLongWindow;
+    private double averageDailyShortWindow;
+    private double averageDailyLongWindow;
+    private Double daysOfStockLeft;
+    private int suggestedReorderQuantity;
+}
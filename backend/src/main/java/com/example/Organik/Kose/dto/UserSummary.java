@@ -0,0 +1,21 @@
+package com.example.Organik.Kose.dto;
+
+import com.example.Organik.Kose.model.User;
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the user fields authenticated endpoints need, without the password
+ * hash or collections.
+ */
+@Value
+public class UserSummary {
+    Long id;
+    String email;
+    String name;
+    User.Role role;
+    Boolean enabled;
+
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getEmail(), user.getName(), user.getRole(), user.getEnabled());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.Organik.Kose.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheInvalidationEvent {
+    private String entity;
+    // null when every entity of the type changed
+    private Long id;
+    private long version;
+    // true when the change was committed by this instance
+    private boolean local;
+
+    public boolean isFor(String type) {
+        return entity.equals(type);
+    }
+}
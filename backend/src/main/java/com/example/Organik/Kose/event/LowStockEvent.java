@@ -0,0 +1,13 @@
+package com.example.Organik.Kose.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LowStockEvent {
+    private Long productId;
+    private String isim;
+    private Integer stok;
+    private Integer threshold;
+}
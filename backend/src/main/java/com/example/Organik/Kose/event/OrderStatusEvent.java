@@ -0,0 +1,23 @@
+package com.example.Organik.Kose.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class OrderStatusEvent {
+    private Long orderId;
+    private Long userId;
+    // null for a newly placed order
+    private String previousStatus;
+    private String status;
+    private BigDecimal totalAmount;
+    private LocalDateTime occurredAt;
+
+    public boolean isNewOrder() {
+        return previousStatus == null;
+    }
+}
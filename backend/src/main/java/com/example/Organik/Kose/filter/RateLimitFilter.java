@@ -0,0 +1,91 @@
+package com.example.Organik.Kose.filter;
+
+import com.example.Organik.Kose.metrics.ShopMetrics;
+import com.example.Organik.Kose.ratelimit.EndpointClass;
+import com.example.Organik.Kose.ratelimit.RateLimiter;
+import com.example.Organik.Kose.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-caller rate limiting of /api/** by endpoint class. Callers with a valid bearer token are
+ * limited by user id (resolved by RequestUserFilter), everyone else by client address. Behind a
+ * proxy the address comes from X-Forwarded-For, applied by Tomcat only for the trusted proxies in
+ * server.tomcat.remoteip.internal-proxies. Runs after the security filter chain so rejected
+ * responses still carry CORS headers.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 2)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ShopMetrics shopMetrics;
+    private final boolean enabled;
+    private final Map<EndpointClass, RateLimiter.Budget> budgets = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(RateLimiter rateLimiter, ShopMetrics shopMetrics, Environment environment) {
+        this.rateLimiter = rateLimiter;
+        this.shopMetrics = shopMetrics;
+        this.enabled = environment.getProperty("app.rate-limit.enabled", Boolean.class, true);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "app.rate-limit." + endpointClass.key();
+            try {
+                budgets.put(endpointClass, RateLimiter.Budget.of(
+                        environment.getProperty(prefix + ".capacity", Integer.class, endpointClass.defaultCapacity()),
+                        environment.getProperty(prefix + ".refill-per-second", Double.class, endpointClass.defaultRefillPerSecond())));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid " + prefix + ".* settings: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod()) || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Invalid or expired tokens are limited like anonymous callers; the endpoint rejects them
+        Long userId = (Long) request.getAttribute(JwtUtil.USER_ID_ATTRIBUTE);
+        EndpointClass endpointClass = EndpointClass.classify(request.getMethod(), request.getRequestURI());
+        String subject = userId != null ? "u:" + userId : "ip:" + request.getRemoteAddr();
+
+        long waitNanos = rateLimiter.tryAcquire(endpointClass.key() + '|' + subject,
+                endpointClass.key() + "|*", budgets.get(endpointClass));
+        if (waitNanos > 0) {
+            shopMetrics.rateLimited(endpointClass.key());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Too many requests");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
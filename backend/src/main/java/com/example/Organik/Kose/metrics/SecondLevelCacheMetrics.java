@@ -0,0 +1,46 @@
+package com.example.Organik.Kose.metrics;
+
+import com.example.Organik.Kose.config.SecondLevelCacheConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate second-level cache statistics as shop.cache.l2.* counters, tagged by region.
+ * Requires hibernate.generate_statistics.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : new String[]{SecondLevelCacheConfig.PRODUCT_REGION, SecondLevelCacheConfig.CATEGORY_REGION}) {
+            regionCounter(registry, "shop.cache.l2.hits", region, s -> s.getDomainDataRegionStatistics(region).getHitCount());
+            regionCounter(registry, "shop.cache.l2.misses", region, s -> s.getDomainDataRegionStatistics(region).getMissCount());
+            regionCounter(registry, "shop.cache.l2.puts", region, s -> s.getDomainDataRegionStatistics(region).getPutCount());
+        }
+        String queries = SecondLevelCacheConfig.QUERY_REGION;
+        regionCounter(registry, "shop.cache.l2.hits", queries, Statistics::getQueryCacheHitCount);
+        regionCounter(registry, "shop.cache.l2.misses", queries, Statistics::getQueryCacheMissCount);
+        regionCounter(registry, "shop.cache.l2.puts", queries, Statistics::getQueryCachePutCount);
+    }
+
+    private void regionCounter(MeterRegistry registry, String name, String region, ToDoubleFunction<Statistics> count) {
+        FunctionCounter.builder(name, statistics, count)
+                .description("Hibernate second-level cache " + name.substring(name.lastIndexOf('.') + 1))
+                .tag("region", region)
+                .register(registry);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.Organik.Kose.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class ShopMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter checkoutSuccess;
+    private final Timer jwtVerify;
+
+    public ShopMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.checkoutSuccess = Counter.builder("shop.checkout")
+                .description("Checkout attempts by result")
+                .tag("result", "success")
+                .tag("reason", "none")
+                .register(registry);
+        this.jwtVerify = Timer.builder("shop.jwt.verify")
+                .description("JWT signature verification and claim parsing")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    public void checkoutSucceeded() {
+        checkoutSuccess.increment();
+    }
+
+    public void checkoutFailed(Exception e) {
+        registry.counter("shop.checkout", "result", "failure", "reason", failureReason(e)).increment();
+    }
+
+    public void stockRejected(String operation) {
+        registry.counter("shop.stock.rejections", "operation", operation).increment();
+    }
+
+    public void rateLimited(String endpointClass) {
+        registry.counter("shop.ratelimit.rejections", "endpoint", endpointClass).increment();
+    }
+
+    public void orderEventSubscriberOverflow() {
+        registry.counter("shop.orders.events.overflows").increment();
+    }
+
+    public void orderEventSubscriberStalled() {
+        registry.counter("shop.orders.events.stalls").increment();
+    }
+
+    public void cacheInvalidationPublished(String entity) {
+        registry.counter("shop.cache.invalidations", "direction", "published", "entity", entity).increment();
+    }
+
+    public void cacheInvalidationReceived(String entity) {
+        registry.counter("shop.cache.invalidations", "direction", "received", "entity", entity).increment();
+    }
+
+    public void passwordHashingRejected(String operation) {
+        registry.counter("shop.password.hashing.rejections", "operation", operation).increment();
+    }
+
+    public <T> T timeJwtVerify(Supplier<T> verification) {
+        return jwtVerify.record(verification);
+    }
+
+    public void recordStatements(String uri, int statements) {
+        DistributionSummary.builder("shop.db.statements")
+                .description("Hibernate SQL statements executed per request")
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(statements);
+    }
+
+    private static String failureReason(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : "";
+        if (message.startsWith("Cart is empty")) return "empty_cart";
+        if (message.startsWith("Insufficient stock")) return "insufficient_stock";
+        if (message.startsWith("User not found")) return "user_not_found";
+        if (message.startsWith("Product not found")) return "product_not_found";
+        return "other";
+    }
+}
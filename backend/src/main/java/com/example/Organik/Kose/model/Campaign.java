@@ -0,0 +1,62 @@
+package com.example.Organik.Kose.model;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "campaigns")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Campaign {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String isim;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type tip;
+
+    // PERCENT and COUPON: percentage off, e.g. 15.00
+    @Column(precision = 5, scale = 2)
+    private BigDecimal indirimOrani;
+
+    // BUY_X_GET_Y: for every alAdet + bedavaAdet units, bedavaAdet are free
+    private Integer alAdet;
+
+    private Integer bedavaAdet;
+
+    // Scope: a product, a category, or (both null) every product
+    @Column(name = "urun_id")
+    private Long urunId;
+
+    @Column(name = "kategori_id")
+    private Long kategoriId;
+
+    @Column(unique = true)
+    private String kuponKodu;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal minSepetTutari;
+
+    private LocalDateTime baslangic;
+
+    private LocalDateTime bitis;
+
+    @Column(nullable = false)
+    private Boolean aktif = true;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public enum Type {
+        PERCENT, BUY_X_GET_Y, COUPON
+    }
+}
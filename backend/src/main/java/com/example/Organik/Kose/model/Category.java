@@ -1,14 +1,19 @@
 package com.example.Organik.Kose.model;
+import com.example.Organik.Kose.config.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "categories")
+// Rarely edited; a concurrent read may briefly re-cache the old row, which the region TTL bounds
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = SecondLevelCacheConfig.CATEGORY_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
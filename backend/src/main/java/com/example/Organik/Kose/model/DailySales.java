@@ -0,0 +1,38 @@
+package com.example.Organik.Kose.model;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_sales",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"sales_date", "category_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySales {
+
+    // Row holding whole-order totals for the day, independent of category
+    public static final long ALL_CATEGORIES = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private Integer orderCount;
+
+    @Column(nullable = false)
+    private Integer units;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
@@ -29,4 +29,8 @@ public class OrderDetail {
 
     @Column(nullable = false)
     private BigDecimal price;
+
+    // Campaign and coupon discount on the whole line
+    @Column(nullable = false)
+    private BigDecimal indirim = BigDecimal.ZERO;
 }
@@ -1,15 +1,20 @@
 package com.example.Organik.Kose.model;
+import com.example.Organik.Kose.config.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "products")
+// Soft-locked while a transaction changes a row, so concurrent readers never cache a stale stock level
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PRODUCT_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,6 +39,8 @@ public class Product {
     @Column(nullable = false)
     private Integer stok = 0;
 
+    private Integer stokEsigi;
+
     @Column(nullable = false)
     private Boolean aktif = true;
 
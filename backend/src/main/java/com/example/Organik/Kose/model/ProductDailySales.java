@@ -0,0 +1,28 @@
+package com.example.Organik.Kose.model;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "product_daily_sales",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "sales_date"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDailySales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private Integer quantity;
+}
@@ -1,4 +1,5 @@
 package com.example.Organik.Kose.model;
+import com.example.Organik.Kose.cache.UserInvalidationListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserInvalidationListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
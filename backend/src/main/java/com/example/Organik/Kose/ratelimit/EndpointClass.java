@@ -0,0 +1,54 @@
+package com.example.Organik.Kose.ratelimit;
+
+/**
+ * Groups of endpoints sharing one rate limit budget per caller. Defaults can be overridden with
+ * app.rate-limit.&lt;name&gt;.capacity and app.rate-limit.&lt;name&gt;.refill-per-second.
+ */
+public enum EndpointClass {
+
+    // Login and registration: every call pays for a BCrypt hash
+    AUTH("auth", 10, 1),
+    // Product search scans the products table
+    SEARCH("search", 20, 5),
+    CART("cart", 30, 5),
+    CHECKOUT("checkout", 5, 0.5),
+    DEFAULT("default", 200, 50);
+
+    private final String key;
+    private final int defaultCapacity;
+    private final double defaultRefillPerSecond;
+
+    EndpointClass(String key, int defaultCapacity, double defaultRefillPerSecond) {
+        this.key = key;
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillPerSecond = defaultRefillPerSecond;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int defaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public double defaultRefillPerSecond() {
+        return defaultRefillPerSecond;
+    }
+
+    public static EndpointClass classify(String method, String uri) {
+        if (uri.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        if (uri.startsWith("/api/products/search")) {
+            return SEARCH;
+        }
+        if (uri.startsWith("/api/cart") && !"GET".equals(method)) {
+            return CART;
+        }
+        if (uri.startsWith("/api/orders") && "POST".equals(method)) {
+            return CHECKOUT;
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.Organik.Kose.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets using the generic cell rate algorithm: each bucket is a single
+ * AtomicLong holding the theoretical arrival time (TAT) of the next request, updated with CAS.
+ * A request is allowed while TAT - now stays within the burst tolerance.
+ *
+ * A bucket whose TAT is in the past is full, so dropping it is indistinguishable from keeping
+ * it; idle buckets are swept periodically, and early when the key count reaches max-keys.
+ * If the map is still full of active buckets, new callers share an overflow bucket per
+ * endpoint class instead of growing the map further.
+ */
+@Component
+public class RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    @Value("${app.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    public RateLimiter(MeterRegistry meterRegistry) {
+        Gauge.builder("shop.ratelimit.keys", buckets, ConcurrentHashMap::mappingCount)
+                .description("Rate limit buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 0 if the request may proceed, otherwise the nanoseconds until it would be allowed
+     */
+    public long tryAcquire(String key, String overflowKey, Budget budget) {
+        long now = System.nanoTime();
+        AtomicLong tat = bucket(key, overflowKey, now);
+        while (true) {
+            long current = tat.get();
+            long base = current - now > 0 ? current : now;
+            long wait = base - now - budget.toleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, base + budget.intervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.evict-interval-ms:30000}")
+    public void evictIdle() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private AtomicLong bucket(String key, String overflowKey, long now) {
+        AtomicLong tat = buckets.get(key);
+        if (tat != null) {
+            return tat;
+        }
+        if (buckets.mappingCount() >= maxKeys) {
+            evictIdle();
+            if (buckets.mappingCount() >= maxKeys) {
+                key = overflowKey;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    /**
+     * capacity requests may be made at once; after that, one more every 1 / refillPerSecond seconds.
+     */
+    public record Budget(long intervalNanos, long toleranceNanos) {
+
+        public static Budget of(int capacity, double refillPerSecond) {
+            // A zero rate would divide to an infinite interval and lock every caller out
+            if (capacity <= 0 || !(refillPerSecond > 0)) {
+                throw new IllegalArgumentException(
+                        "capacity and refill-per-second must be positive (capacity: " + capacity
+                                + ", refill-per-second: " + refillPerSecond + ")");
+            }
+            long interval = (long) (1_000_000_000L / refillPerSecond);
+            return new Budget(interval, interval * (capacity - 1));
+        }
+    }
+}
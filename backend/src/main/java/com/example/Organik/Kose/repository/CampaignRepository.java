@@ -0,0 +1,19 @@
+package com.example.Organik.Kose.repository;
+import com.example.Organik.Kose.model.Campaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CampaignRepository extends JpaRepository<Campaign, Long> {
+
+    @Query("SELECT c FROM Campaign c WHERE c.aktif = true AND (c.bitis IS NULL OR c.bitis > :now)")
+    List<Campaign> findActiveOrUpcoming(@Param("now") LocalDateTime now);
+
+    boolean existsByKuponKodu(String kuponKodu);
+
+    boolean existsByKuponKoduAndIdNot(String kuponKodu, Long id);
+}
@@ -0,0 +1,11 @@
+package com.example.Organik.Kose.repository;
+import com.example.Organik.Kose.model.DailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySalesRepository extends JpaRepository<DailySales, Long> {
+    List<DailySales> findBySalesDateBetweenOrderBySalesDateAscCategoryIdAsc(LocalDate from, LocalDate to);
+}
@@ -1,11 +1,34 @@
 package com.example.Organik.Kose.repository;
 import com.example.Organik.Kose.model.OrderDetail;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long> {
     List<OrderDetail> findByOrderId(Long orderId);
     List<OrderDetail> findByProductId(Long productId);
+
+    @Query("SELECT d FROM OrderDetail d JOIN FETCH d.product WHERE d.order.id = :orderId ORDER BY d.id")
+    List<OrderDetail> findWithProductByOrderId(@Param("orderId") Long orderId);
+
+    @Query("SELECT COALESCE(MAX(d.id), 0) FROM OrderDetail d")
+    Long findMaxId();
+
+    @Query("SELECT d.id AS id, d.product.id AS productId, d.quantity AS quantity, o.orderDate AS orderDate " +
+           "FROM OrderDetail d JOIN d.order o " +
+           "WHERE d.id > :afterId AND d.id <= :maxId AND o.status <> :excludedStatus ORDER BY d.id")
+    List<SalesLine> findSalesLines(@Param("afterId") Long afterId, @Param("maxId") Long maxId,
+                                   @Param("excludedStatus") String excludedStatus, Pageable pageable);
+
+    interface SalesLine {
+        Long getId();
+        Long getProductId();
+        Integer getQuantity();
+        LocalDateTime getOrderDate();
+    }
 }
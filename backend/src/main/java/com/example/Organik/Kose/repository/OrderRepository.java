@@ -1,21 +1,41 @@
 package com.example.Organik.Kose.repository;
+import com.example.Organik.Kose.dto.OrderSummaryDTO;
 import com.example.Organik.Kose.model.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserIdOrderByOrderDateDesc(Long userId);
     List<Order> findByStatusOrderByOrderDateDesc(String status);
+    Optional<Order> findByIdAndUserId(Long id, Long userId);
+
+    // Served by idx_orders_user_date; a Slice reads one extra row instead of running a count query
+    @Query("SELECT new com.example.Organik.Kose.dto.OrderSummaryDTO(o.id, o.orderDate, o.status, o.totalAmount, COALESCE(SUM(d.quantity), 0L)) " +
+           "FROM Order o LEFT JOIN o.orderDetails d " +
+           "WHERE o.user.id = :userId " +
+           "GROUP BY o.id, o.orderDate, o.status, o.totalAmount " +
+           "ORDER BY o.orderDate DESC, o.id DESC")
+    Slice<OrderSummaryDTO> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
     
     @Query("SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate")
     List<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     @Query("SELECT COUNT(o) FROM Order o WHERE o.status = :status")
     Long countByStatus(String status);
+
+    @Query("SELECT MIN(o.orderDate) FROM Order o")
+    LocalDateTime findMinOrderDate();
+
+    @Query("SELECT MAX(o.orderDate) FROM Order o")
+    LocalDateTime findMaxOrderDate();
 }
 
 
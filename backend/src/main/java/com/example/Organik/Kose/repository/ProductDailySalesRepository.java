@@ -0,0 +1,22 @@
+package com.example.Organik.Kose.repository;
+import com.example.Organik.Kose.model.ProductDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProductDailySalesRepository extends JpaRepository<ProductDailySales, Long> {
+    List<ProductDailySales> findByProductIdAndSalesDateGreaterThanEqualOrderBySalesDate(Long productId, LocalDate from);
+
+    @Query("SELECT s.productId AS productId, SUM(s.quantity) AS quantity FROM ProductDailySales s " +
+           "WHERE s.salesDate >= :from GROUP BY s.productId")
+    List<ProductQuantity> sumQuantitySince(@Param("from") LocalDate from);
+
+    interface ProductQuantity {
+        Long getProductId();
+        Long getQuantity();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.Organik.Kose.repository;
+
+import com.example.Organik.Kose.dto.ProductBulkUpdateItem;
+import com.example.Organik.Kose.dto.ProductDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO products (isim, fiyat, açıklama, resim_url, stok, aktif, created_at, kategori_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE products SET isim = COALESCE(?, isim), fiyat = COALESCE(?, fiyat), " +
+            "açıklama = COALESCE(?, açıklama), resim_url = COALESCE(?, resim_url), stok = COALESCE(?, stok), " +
+            "aktif = COALESCE(?, aktif), kategori_id = COALESCE(?, kategori_id), updated_at = ? WHERE id = ?";
+
+    private static final String BULK_UPDATE_SQL =
+            "UPDATE products SET fiyat = COALESCE(?, fiyat), stok = COALESCE(?, stok), aktif = COALESCE(?, aktif), " +
+            "updated_at = ? WHERE id = ?";
+
+    private static final String EXPORT_SQL =
+            "SELECT p.id, p.isim, p.fiyat, p.açıklama, p.resim_url, p.stok, p.aktif, p.kategori_id, c.name " +
+            "FROM products p JOIN categories c ON c.id = p.kategori_id ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Map<String, Long> findCategoryIdsByName() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM categories",
+                (RowCallbackHandler) rs -> ids.put(rs.getString("name"), rs.getLong("id")));
+        return ids;
+    }
+
+    // Ids missing from the result do not exist
+    public Map<Long, ProductDTO> findStockStates(Collection<Long> ids) {
+        Map<Long, ProductDTO> products = new HashMap<>();
+        if (ids.isEmpty()) {
+            return products;
+        }
+        namedParameterJdbcTemplate.query("SELECT id, isim, stok, aktif FROM products WHERE id IN (:ids)", Map.of("ids", ids),
+                (RowCallbackHandler) rs -> {
+                    ProductDTO dto = new ProductDTO();
+                    dto.setId(rs.getLong("id"));
+                    dto.setIsim(rs.getString("isim"));
+                    dto.setStok(rs.getInt("stok"));
+                    dto.setAktif(rs.getBoolean("aktif"));
+                    products.put(dto.getId(), dto);
+                });
+        return products;
+    }
+
+    public Map<Long, ProductDTO> findStockLevels(Collection<Long> ids) {
+        Map<Long, ProductDTO> products = new HashMap<>();
+        if (ids.isEmpty()) {
+            return products;
+        }
+        namedParameterJdbcTemplate.query("SELECT id, isim, stok FROM products WHERE id IN (:ids)", Map.of("ids", ids),
+                (RowCallbackHandler) rs -> {
+                    ProductDTO dto = new ProductDTO();
+                    dto.setId(rs.getLong("id"));
+                    dto.setIsim(rs.getString("isim"));
+                    dto.setStok(rs.getInt("stok"));
+                    products.put(dto.getId(), dto);
+                });
+        return products;
+    }
+
+    // Returns the generated ids in insert order
+    public List<Long> batchInsert(List<ProductDTO> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] {"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductDTO p = products.get(i);
+                ps.setString(1, p.getIsim());
+                ps.setBigDecimal(2, p.getFiyat());
+                ps.setString(3, p.getAçıklama());
+                ps.setString(4, p.getResimUrl());
+                ps.setInt(5, p.getStok());
+                ps.setBoolean(6, p.getAktif());
+                ps.setTimestamp(7, now);
+                ps.setLong(8, p.getCategoryId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return products.size();
+            }
+        }, keyHolder);
+        // Connector/J names the key column GENERATED_KEY, H2 uses the column name
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    public int[] batchUpdate(List<ProductDTO> products) {
+        if (products.isEmpty()) {
+            return new int[0];
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.batchUpdate(UPDATE_SQL, products, products.size(), (ps, p) -> {
+            ps.setString(1, p.getIsim());
+            ps.setBigDecimal(2, p.getFiyat());
+            ps.setString(3, p.getAçıklama());
+            ps.setString(4, p.getResimUrl());
+            ps.setObject(5, p.getStok());
+            ps.setObject(6, p.getAktif());
+            ps.setObject(7, p.getCategoryId());
+            ps.setTimestamp(8, now);
+            ps.setLong(9, p.getId());
+        })[0];
+    }
+
+    public int[] batchUpdatePriceAndStock(List<ProductBulkUpdateItem> items, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(BULK_UPDATE_SQL, items, batchSize, (ps, item) -> {
+            ps.setBigDecimal(1, item.getFiyat());
+            ps.setObject(2, item.getStok());
+            ps.setObject(3, item.getAktif());
+            ps.setTimestamp(4, now);
+            ps.setLong(5, item.getProductId());
+        });
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).toArray();
+    }
+
+    // Streams only with useCursorFetch=true on the MySQL URL; otherwise Connector/J buffers the whole result
+    public void streamAll(int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(EXPORT_SQL);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, handler);
+    }
+
+    public static ProductDTO mapRow(ResultSet rs) throws SQLException {
+        ProductDTO dto = new ProductDTO();
+        dto.setId(rs.getLong(1));
+        dto.setIsim(rs.getString(2));
+        dto.setFiyat(rs.getBigDecimal(3));
+        dto.setAçıklama(rs.getString(4));
+        dto.setResimUrl(rs.getString(5));
+        dto.setStok(rs.getInt(6));
+        dto.setAktif(rs.getBoolean(7));
+        dto.setCategoryId(rs.getLong(8));
+        dto.setCategoryName(rs.getString(9));
+        return dto;
+    }
+}
@@ -1,14 +1,21 @@
 package com.example.Organik.Kose.repository;
 import com.example.Organik.Kose.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    // Cached result ids are dropped whenever the products table changes through Hibernate
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Product> findByAktifTrue();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Product> findByCategoryIdAndAktifTrue(Long categoryId);
     
     @Query("SELECT p FROM Product p WHERE p.aktif = true AND " +
@@ -17,4 +24,9 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findBySearchTerm(@Param("searchTerm") String searchTerm);
     
     List<Product> findByStokGreaterThan(Integer stok);
+
+    List<Product> findByStokEsigiIsNotNull();
+
+    @Query("SELECT p FROM Product p WHERE p.aktif = true AND p.stok <= COALESCE(p.stokEsigi, :defaultThreshold)")
+    List<Product> findLowStock(@Param("defaultThreshold") Integer defaultThreshold);
 }
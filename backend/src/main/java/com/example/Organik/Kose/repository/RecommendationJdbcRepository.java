@@ -0,0 +1,81 @@
+package com.example.Organik.Kose.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class RecommendationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long findMaxOrderId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    /**
+     * Groups order lines up to {@code maxOrderId} into baskets of distinct product ids,
+     * dropping single-item orders and truncating very large ones. Streams only with
+     * useCursorFetch=true on the MySQL URL; otherwise Connector/J buffers every order line.
+     */
+    public List<long[]> findBaskets(long maxOrderId, int fetchSize, int maxBasketSize) {
+        BasketCollector collector = new BasketCollector(maxBasketSize);
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(
+                    "SELECT DISTINCT order_id, product_id FROM order_details WHERE order_id <= ? ORDER BY order_id");
+            ps.setLong(1, maxOrderId);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, collector);
+        collector.finishBasket();
+        return collector.baskets;
+    }
+
+    public Set<Long> findInactiveProductIds() {
+        Set<Long> ids = new HashSet<>();
+        jdbcTemplate.query("SELECT id FROM products WHERE aktif = false", (RowCallbackHandler) rs -> ids.add(rs.getLong(1)));
+        return ids;
+    }
+
+    private static class BasketCollector implements RowCallbackHandler {
+        private final List<long[]> baskets = new ArrayList<>();
+        private final long[] current;
+        private long orderId = -1;
+        private int size;
+
+        BasketCollector(int maxBasketSize) {
+            current = new long[maxBasketSize];
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowOrderId = rs.getLong(1);
+            if (rowOrderId != orderId) {
+                finishBasket();
+                orderId = rowOrderId;
+            }
+            if (size < current.length) {
+                current[size++] = rs.getLong(2);
+            }
+        }
+
+        void finishBasket() {
+            // Single-item orders carry no co-purchase signal
+            if (size > 1) {
+                baskets.add(Arrays.copyOf(current, size));
+            }
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.Organik.Kose.repository;
+import com.example.Organik.Kose.model.DailySales;
+import com.example.Organik.Kose.model.ProductDailySales;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RollupJdbcRepository {
+
+    public static final String PRODUCT_DAILY_SALES = "product_daily_sales";
+    // Same shape as product_daily_sales; holds the corrections of a rebuild in progress
+    public static final String PRODUCT_DAILY_SALES_REBUILD = "product_daily_sales_rebuild";
+
+    public static final String DAILY_SALES = "daily_sales";
+    // Same shape as daily_sales, for the revenue rebuild
+    public static final String DAILY_SALES_REBUILD = "daily_sales_rebuild";
+
+    private static final String UPSERT_PRODUCT_DAILY_SALES_SQL =
+            "INSERT INTO %s (product_id, sales_date, quantity) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + ?";
+
+    private static final String FIND_PRODUCT_DAILY_SALES_SQL =
+            "SELECT id, product_id, sales_date, quantity FROM %s WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPSERT_DAILY_SALES_SQL =
+            "INSERT INTO %s (sales_date, category_id, order_count, units, revenue) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + ?, units = units + ?, revenue = revenue + ?";
+
+    private static final String FIND_DAILY_SALES_SQL =
+            "SELECT id, sales_date, category_id, order_count, units, revenue FROM %s WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String AGGREGATE_DAILY_SALES_BY_CATEGORY_SQL =
+            "SELECT CAST(o.order_date AS DATE), p.kategori_id, COUNT(DISTINCT o.id), SUM(d.quantity), SUM(d.price * d.quantity - d.indirim) " +
+            "FROM orders o JOIN order_details d ON d.order_id = o.id JOIN products p ON p.id = d.product_id " +
+            "WHERE o.status <> ? AND o.order_date >= ? AND o.order_date < ? " +
+            "GROUP BY CAST(o.order_date AS DATE), p.kategori_id";
+
+    private static final String AGGREGATE_DAILY_SALES_TOTALS_SQL =
+            "SELECT CAST(o.order_date AS DATE), " + DailySales.ALL_CATEGORIES + ", COUNT(*), SUM(COALESCE(u.units, 0)), SUM(o.total_amount) " +
+            "FROM orders o LEFT JOIN (" +
+            "  SELECT d.order_id, SUM(d.quantity) AS units FROM order_details d JOIN orders x ON x.id = d.order_id " +
+            "  WHERE x.order_date >= ? AND x.order_date < ? GROUP BY d.order_id" +
+            ") u ON u.order_id = o.id " +
+            "WHERE o.status <> ? AND o.order_date >= ? AND o.order_date < ? " +
+            "GROUP BY CAST(o.order_date AS DATE)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addProductDailySales(List<ProductDailyQuantity> rows) {
+        addProductDailySales(PRODUCT_DAILY_SALES, rows);
+    }
+
+    public void addProductDailySales(String table, List<ProductDailyQuantity> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_PRODUCT_DAILY_SALES_SQL.formatted(table), rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.productId());
+            ps.setDate(2, Date.valueOf(row.salesDate()));
+            ps.setInt(3, row.quantity());
+            ps.setInt(4, row.quantity());
+        });
+    }
+
+    public void addDailySales(List<DailySalesDelta> rows) {
+        addDailySales(DAILY_SALES, rows);
+    }
+
+    public void addDailySales(String table, List<DailySalesDelta> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SALES_SQL.formatted(table), rows, rows.size(), (ps, row) -> {
+            ps.setDate(1, Date.valueOf(row.salesDate()));
+            ps.setLong(2, row.categoryId());
+            ps.setInt(3, row.orderCount());
+            ps.setInt(4, row.units());
+            ps.setBigDecimal(5, row.revenue());
+            ps.setInt(6, row.orderCount());
+            ps.setInt(7, row.units());
+            ps.setBigDecimal(8, row.revenue());
+        });
+    }
+
+    public List<ProductDailySales> findProductDailySales(String table, long afterId, int limit) {
+        return jdbcTemplate.query(FIND_PRODUCT_DAILY_SALES_SQL.formatted(table), (rs, rowNum) -> new ProductDailySales(
+                rs.getLong(1), rs.getLong(2), rs.getDate(3).toLocalDate(), rs.getInt(4)), afterId, limit);
+    }
+
+    public void deleteAll(String table) {
+        jdbcTemplate.update("DELETE FROM " + table);
+    }
+
+    public List<DailySales> findDailySales(String table, long afterId, int limit) {
+        return jdbcTemplate.query(FIND_DAILY_SALES_SQL.formatted(table), (rs, rowNum) -> new DailySales(
+                rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getLong(3), rs.getInt(4), rs.getInt(5), rs.getBigDecimal(6)),
+                afterId, limit);
+    }
+
+    // Per-category and whole-order totals of the orders placed in [from, to), as plain reads
+    public List<DailySalesDelta> aggregateDailySales(LocalDateTime from, LocalDateTime to, String excludedStatus) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+        RowMapper<DailySalesDelta> mapper = (rs, rowNum) -> new DailySalesDelta(
+                rs.getDate(1).toLocalDate(), rs.getLong(2), rs.getInt(3), rs.getInt(4), rs.getBigDecimal(5));
+        List<DailySalesDelta> rows = new ArrayList<>(
+                jdbcTemplate.query(AGGREGATE_DAILY_SALES_BY_CATEGORY_SQL, mapper, excludedStatus, start, end));
+        rows.addAll(jdbcTemplate.query(AGGREGATE_DAILY_SALES_TOTALS_SQL, mapper, start, end, excludedStatus, start, end));
+        return rows;
+    }
+
+    public record ProductDailyQuantity(Long productId, LocalDate salesDate, int quantity) {
+    }
+
+    public record DailySalesDelta(LocalDate salesDate, Long categoryId, int orderCount, int units, BigDecimal revenue) {
+    }
+}
@@ -1,11 +1,24 @@
 package com.example.Organik.Kose.repository;
+import com.example.Organik.Kose.dto.UserSummary;
 import com.example.Organik.Kose.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT new com.example.Organik.Kose.dto.UserSummary(u.id, u.email, u.name, u.role, u.enabled) FROM User u WHERE u.id = :id")
+    Optional<UserSummary> findSummaryById(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
@@ -0,0 +1,111 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.model.Campaign;
+import com.example.Organik.Kose.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CampaignService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final CampaignRepository campaignRepository;
+    private final PricingEngine pricingEngine;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Transactional(readOnly = true)
+    public List<Campaign> getAllCampaigns() {
+        return campaignRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public Campaign getCampaignById(Long id) {
+        return campaignRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Campaign not found"));
+    }
+
+    public Campaign createCampaign(Campaign campaign) {
+        campaign.setId(null);
+        campaign.setKuponKodu(PricingEngine.normalizeCoupon(campaign.getKuponKodu()));
+        validate(campaign);
+        if (campaign.getKuponKodu() != null && campaignRepository.existsByKuponKodu(campaign.getKuponKodu())) {
+            throw new RuntimeException("Coupon code already exists");
+        }
+        Campaign saved = campaignRepository.save(campaign);
+        pricingEngine.reload();
+        cacheInvalidationBus.publish(CacheInvalidationBus.CAMPAIGN, saved.getId());
+        return saved;
+    }
+
+    /**
+     * Replaces the campaign with {@code details}: optional fields left out (scope, coupon,
+     * minimum basket, start and end) are cleared, so a PUT can widen a campaign to every product
+     * or make it open-ended. A missing aktif keeps the current value.
+     */
+    public Campaign updateCampaign(Long id, Campaign details) {
+        Campaign campaign = getCampaignById(id);
+
+        campaign.setIsim(details.getIsim());
+        campaign.setTip(details.getTip());
+        campaign.setIndirimOrani(details.getIndirimOrani());
+        campaign.setAlAdet(details.getAlAdet());
+        campaign.setBedavaAdet(details.getBedavaAdet());
+        campaign.setUrunId(details.getUrunId());
+        campaign.setKategoriId(details.getKategoriId());
+        campaign.setKuponKodu(PricingEngine.normalizeCoupon(details.getKuponKodu()));
+        campaign.setMinSepetTutari(details.getMinSepetTutari());
+        campaign.setBaslangic(details.getBaslangic());
+        campaign.setBitis(details.getBitis());
+        if (details.getAktif() != null) campaign.setAktif(details.getAktif());
+
+        validate(campaign);
+        if (campaign.getKuponKodu() != null && campaignRepository.existsByKuponKoduAndIdNot(campaign.getKuponKodu(), id)) {
+            throw new RuntimeException("Coupon code already exists");
+        }
+        Campaign saved = campaignRepository.save(campaign);
+        pricingEngine.reload();
+        cacheInvalidationBus.publish(CacheInvalidationBus.CAMPAIGN, id);
+        return saved;
+    }
+
+    public void deleteCampaign(Long id) {
+        Campaign campaign = getCampaignById(id);
+        campaignRepository.delete(campaign);
+        pricingEngine.reload();
+        cacheInvalidationBus.publish(CacheInvalidationBus.CAMPAIGN, id);
+    }
+
+    private static void validate(Campaign campaign) {
+        if (campaign.getIsim() == null || campaign.getTip() == null) {
+            throw new RuntimeException("Campaign name and type are required");
+        }
+        switch (campaign.getTip()) {
+            case PERCENT, COUPON -> {
+                BigDecimal rate = campaign.getIndirimOrani();
+                if (rate == null || rate.signum() <= 0 || rate.compareTo(HUNDRED) > 0) {
+                    throw new RuntimeException("Discount rate must be between 0 and 100");
+                }
+                if (campaign.getTip() == Campaign.Type.COUPON && campaign.getKuponKodu() == null) {
+                    throw new RuntimeException("Coupon code is required");
+                }
+            }
+            case BUY_X_GET_Y -> {
+                if (campaign.getAlAdet() == null || campaign.getAlAdet() < 1
+                        || campaign.getBedavaAdet() == null || campaign.getBedavaAdet() < 1) {
+                    throw new RuntimeException("Buy and free quantities must be at least 1");
+                }
+            }
+        }
+        if (campaign.getBaslangic() != null && campaign.getBitis() != null
+                && !campaign.getBitis().isAfter(campaign.getBaslangic())) {
+            throw new RuntimeException("Campaign must end after it starts");
+        }
+    }
+}
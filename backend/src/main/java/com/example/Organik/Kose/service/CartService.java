@@ -1,32 +1,38 @@
 package com.example.Organik.Kose.service;
 
+import com.example.Organik.Kose.dto.PricedCart;
+import com.example.Organik.Kose.metrics.ShopMetrics;
 import com.example.Organik.Kose.model.Cart;
 import com.example.Organik.Kose.model.Product;
-import com.example.Organik.Kose.model.User;
 import com.example.Organik.Kose.repository.CartRepository;
 import com.example.Organik.Kose.repository.ProductRepository;
 import com.example.Organik.Kose.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class CartService {
 
     private final CartRepository cartRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ShopMetrics shopMetrics;
+    private final UserSummaryCache userSummaryCache;
+    private final PricingEngine pricingEngine;
 
     @Transactional
     public void addToCart(Long userId, Long productId, Integer quantity) {
-        System.out.println("CartService: Adding to cart - User ID: " + userId + ", Product ID: " + productId + ", Quantity: " + quantity);
+        log.debug("Adding to cart - userId={}, productId={}, quantity={}", userId, productId, quantity);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        userSummaryCache.get(userId);
 
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
@@ -38,6 +44,7 @@ public class CartService {
 
         // Check stock
         if (product.getStok() < quantity) {
+            shopMetrics.stockRejected("cart_add");
             throw new RuntimeException("Stok yetersiz. Mevcut stok: " + product.getStok());
         }
 
@@ -49,24 +56,25 @@ public class CartService {
             Cart cartItem = existingCartItem.get();
             int newQuantity = cartItem.getQuantity() + quantity;
 
-            System.out.println("CartService: Product stock: " + product.getStok() + ", Current cart quantity: " + cartItem.getQuantity() + ", Requested quantity: " + quantity + ", New total quantity: " + newQuantity);
+            log.debug("Product stock: {}, current cart quantity: {}, requested: {}, new total: {}", product.getStok(), cartItem.getQuantity(), quantity, newQuantity);
 
             // Check stock for new quantity
             if (product.getStok() < newQuantity) {
+                shopMetrics.stockRejected("cart_add");
                 throw new RuntimeException("Stok yetersiz. Sepetinizde zaten " + cartItem.getQuantity() + " adet var. Mevcut stok: " + product.getStok() + ", Toplam istenen: " + newQuantity);
             }
 
             cartItem.setQuantity(newQuantity);
             cartRepository.save(cartItem);
-            System.out.println("CartService: Updated existing cart item, new quantity: " + newQuantity);
+            log.debug("Updated existing cart item, new quantity: {}", newQuantity);
         } else {
             // Create new cart item
             Cart cartItem = new Cart();
-            cartItem.setUser(user);
+            cartItem.setUser(userRepository.getReferenceById(userId));
             cartItem.setProduct(product);
             cartItem.setQuantity(quantity);
             cartRepository.save(cartItem);
-            System.out.println("CartService: Created new cart item");
+            log.debug("Created new cart item");
         }
     }
 
@@ -74,6 +82,16 @@ public class CartService {
         return cartRepository.findByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
+    public PricedCart getCartSummary(Long userId, String couponCode) {
+        List<Cart> cartItems = cartRepository.findByUserId(userId);
+        List<PricingEngine.Line> lines = new ArrayList<>(cartItems.size());
+        for (Cart cartItem : cartItems) {
+            lines.add(new PricingEngine.Line(cartItem.getProduct(), cartItem.getQuantity()));
+        }
+        return pricingEngine.price(lines, couponCode);
+    }
+
     @Transactional
     public void updateCartItemQuantity(Long userId, Long productId, Integer quantity) {
         if (quantity <= 0) {
@@ -86,6 +104,7 @@ public class CartService {
 
         Product product = cartItem.getProduct();
         if (product.getStok() < quantity) {
+            shopMetrics.stockRejected("cart_update");
             throw new RuntimeException("Stok yetersiz. Mevcut stok: " + product.getStok() + ", İstenen: " + quantity);
         }
 
@@ -1,9 +1,11 @@
 package com.example.Organik.Kose.service;
 
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
 import com.example.Organik.Kose.model.Category;
 import com.example.Organik.Kose.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -12,11 +14,14 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
+    @Transactional(readOnly = true)
     public List<Category> getAllCategories() {
         return categoryRepository.findByAktifTrue();
     }
 
+    @Transactional(readOnly = true)
     public Category getCategoryById(Long id) {
         return categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found"));
@@ -45,11 +50,14 @@ public class CategoryService {
             category.setAktif(categoryDetails.getAktif());
         }
 
-        return categoryRepository.save(category);
+        category = categoryRepository.save(category);
+        cacheInvalidationBus.publish(CacheInvalidationBus.CATEGORY, id);
+        return category;
     }
 
     public void deleteCategory(Long id) {
         Category category = getCategoryById(id);
         categoryRepository.delete(category);
+        cacheInvalidationBus.publish(CacheInvalidationBus.CATEGORY, id);
     }
 }
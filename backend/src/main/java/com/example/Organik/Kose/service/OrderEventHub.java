@@ -0,0 +1,253 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.event.OrderStatusEvent;
+import com.example.Organik.Kose.metrics.ShopMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed order events out to SSE subscribers. Each event is serialized once into a
+ * frame shared by all subscribers. Every subscriber has its own bounded buffer drained by a
+ * small sender pool, with at most one drain task per subscriber, so a slow client never
+ * blocks the publisher or other clients. A subscriber whose buffer overflows is disconnected;
+ * EventSource reconnects on its own and the client reloads the list once, instead of the
+ * server holding an unbounded backlog for it.
+ *
+ * A send to a client that stops reading blocks its sender thread until the container's write
+ * timeout (Tomcat: server.tomcat.connection-timeout). A send still running after write-timeout-ms
+ * disconnects that subscriber and the pool gets a replacement thread until the send returns, so
+ * at most sender-threads + max-stalled-senders stalled clients are absorbed before delivery to
+ * everyone else waits on the container timeout.
+ */
+@Service
+@Slf4j
+public class OrderEventHub {
+
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long STALLED = Long.MAX_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final ShopMetrics shopMetrics;
+    private final ThreadPoolExecutor sender;
+    private final int senderThreads;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger stalledSenders = new AtomicInteger();
+    private final Lock resizeLock = new ReentrantLock();
+
+    @Value("${app.orders.events.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${app.orders.events.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${app.orders.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.orders.events.write-timeout-ms:5000}")
+    private long writeTimeoutMs;
+
+    @Value("${app.orders.events.max-stalled-senders:8}")
+    private int maxStalledSenders;
+
+    public OrderEventHub(ObjectMapper objectMapper, ShopMetrics shopMetrics, MeterRegistry meterRegistry,
+                         @Value("${app.orders.events.sender-threads:2}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.shopMetrics = shopMetrics;
+        this.senderThreads = senderThreads;
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("order-events-"));
+        new ExecutorServiceMetrics(sender, "order.events.sender", List.of()).bindTo(meterRegistry);
+        Gauge.builder("shop.orders.events.subscribers", subscribers, Set::size)
+                .description("Open order event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param userId the only user whose orders are streamed, or null for all orders
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RejectedExecutionException("Too many order event subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, userId, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderEvent(OrderStatusEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(Long.toString(sequence.incrementAndGet()))
+                    .name(event.isNewOrder() ? "order-created" : "order-status")
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize order event {}: {}", event.getOrderId(), e.getMessage());
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.userId == null || subscriber.userId.equals(event.getUserId())) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    // Keeps idle connections open through proxies and finds clients that went away
+    @Scheduled(fixedDelayString = "${app.orders.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("ping").build();
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, frame);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.events.write-check-ms:1000}")
+    public void disconnectStalled() {
+        long now = System.nanoTime();
+        long limit = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt.get();
+            if (started != IDLE && started != STALLED && now - started > limit
+                    && subscriber.sendStartedAt.compareAndSet(started, STALLED)) {
+                shopMetrics.orderEventSubscriberStalled();
+                disconnect(subscriber);
+                stalledSenders.incrementAndGet();
+                resizeSender();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        if (!subscriber.buffer.offer(frame)) {
+            shopMetrics.orderEventSubscriberOverflow();
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> frame;
+            while (subscribers.contains(subscriber) && (frame = subscriber.buffer.poll()) != null) {
+                if (!send(subscriber, frame)) {
+                    subscribers.remove(subscriber);
+                }
+            }
+            if (!subscribers.contains(subscriber)) {
+                // Disconnected while this drain ran; see disconnect()
+                subscriber.buffer.clear();
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.draining.set(false);
+            // An event enqueued, or a disconnect, after the last check but before the flag was cleared
+        } while ((!subscriber.buffer.isEmpty() || !subscribers.contains(subscriber))
+                && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        subscriber.sendStartedAt.set(System.nanoTime());
+        try {
+            subscriber.emitter.send(frame);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        } finally {
+            if (subscriber.sendStartedAt.getAndSet(IDLE) == STALLED) {
+                // The replacement thread added by disconnectStalled is no longer needed
+                stalledSenders.decrementAndGet();
+                resizeSender();
+            }
+        }
+    }
+
+    private void resizeSender() {
+        resizeLock.lock();
+        try {
+            int size = senderThreads + Math.min(stalledSenders.get(), maxStalledSenders);
+            // The maximum may never drop below the core size
+            if (size > sender.getCorePoolSize()) {
+                sender.setMaximumPoolSize(size);
+                sender.setCorePoolSize(size);
+            } else if (size < sender.getCorePoolSize()) {
+                sender.setCorePoolSize(size);
+                sender.setMaximumPoolSize(size);
+            }
+        } finally {
+            resizeLock.unlock();
+        }
+    }
+
+    // complete() waits for a send in progress, so a running drain completes the emitter itself
+    // and neither the publisher nor the stall check ever blocks on a slow client
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            if (subscriber.draining.compareAndSet(false, true)) {
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    // sendStartedAt: nanoTime of the send in progress, IDLE between sends, STALLED once timed out
+    private record Subscriber(SseEmitter emitter, Long userId, ArrayBlockingQueue<Set<DataWithMediaType>> buffer,
+                              AtomicBoolean draining, AtomicLong sendStartedAt) {
+
+        Subscriber(SseEmitter emitter, Long userId, ArrayBlockingQueue<Set<DataWithMediaType>> buffer) {
+            this(emitter, userId, buffer, new AtomicBoolean(), new AtomicLong(IDLE));
+        }
+    }
+}
@@ -1,17 +1,31 @@
 package com.example.Organik.Kose.service;
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.datasource.ReadYourWritesTracker;
 import com.example.Organik.Kose.dto.OrderDTO;
 import com.example.Organik.Kose.dto.OrderDetailDTO;
+import com.example.Organik.Kose.dto.OrderHistoryPage;
+import com.example.Organik.Kose.dto.OrderSummaryDTO;
+import com.example.Organik.Kose.dto.PricedCart;
+import com.example.Organik.Kose.dto.UserSummary;
+import com.example.Organik.Kose.event.OrderStatusEvent;
+import com.example.Organik.Kose.metrics.ShopMetrics;
 import com.example.Organik.Kose.model.*;
 import com.example.Organik.Kose.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class OrderService {
 
@@ -20,104 +34,109 @@ public class OrderService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final CartRepository cartRepository;
+    private final StockMonitorService stockMonitorService;
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final RecommendationService recommendationService;
+    private final ShopMetrics shopMetrics;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final UserSummaryCache userSummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PricingEngine pricingEngine;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private static final String CANCELLED_STATUS = SalesAnalyticsService.CANCELLED_STATUS;
+
+    @Value("${app.orders.history.max-page-size:100}")
+    private int maxHistoryPageSize;
 
     @Transactional
     public OrderDTO createOrder(Long userId, OrderDTO orderDTO) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        UserSummary user = userSummaryCache.get(userId);
 
         Order order = new Order();
-        order.setUser(user);
+        order.setUser(userRepository.getReferenceById(userId));
         order.setOrderDate(LocalDateTime.now());
         order.setStatus("Hazırlanıyor");
         order.setTotalAmount(orderDTO.getTotalAmount());
 
         order = orderRepository.save(order);
 
-        BigDecimal calculatedTotal = BigDecimal.ZERO;
+        List<PricingEngine.Line> lines = new ArrayList<>(orderDTO.getOrderDetails().size());
         for (OrderDetailDTO detailDTO : orderDTO.getOrderDetails()) {
             Product product = productRepository.findById(detailDTO.getProductId())
                     .orElseThrow(() -> new RuntimeException("Product not found"));
 
             if (product.getStok() < detailDTO.getQuantity()) {
+                shopMetrics.stockRejected("order");
                 throw new RuntimeException("Insufficient stock for product: " + product.getIsim());
             }
-
-            OrderDetail orderDetail = new OrderDetail();
-            orderDetail.setOrder(order);
-            orderDetail.setProduct(product);
-            orderDetail.setQuantity(detailDTO.getQuantity());
-            orderDetail.setPrice(product.getFiyat());
-
-            orderDetailRepository.save(orderDetail);
-            product.setStok(product.getStok() - detailDTO.getQuantity());
-            productRepository.save(product);
-
-            calculatedTotal = calculatedTotal.add(product.getFiyat().multiply(BigDecimal.valueOf(detailDTO.getQuantity())));
+            lines.add(new PricingEngine.Line(product, detailDTO.getQuantity()));
         }
 
-        order.setTotalAmount(calculatedTotal);
+        PricedCart priced = pricingEngine.price(lines, null);
+        List<OrderDetail> details = saveDetails(order, lines, priced);
+
+        order.setTotalAmount(priced.getTotal());
         order = orderRepository.save(order);
+        salesAnalyticsService.recordOrder(order, details, 1);
+        recommendationService.recordOrder(order.getId(), details.stream().map(d -> d.getProduct().getId()).toList());
         cartRepository.deleteByUserId(userId);
+        readYourWritesTracker.markWrite(userId);
+        publishStatusChange(order, null);
 
-        return convertToDTO(order);
+        return convertToDTO(order, user.getName());
     }
 
     @Transactional
-    public OrderDTO createOrderFromCart(Long userId) {
-        System.out.println("OrderService: Creating order for userId: " + userId);
+    public OrderDTO createOrderFromCart(Long userId, String couponCode) {
+        log.debug("Creating order for userId={}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        UserSummary user = userSummaryCache.get(userId);
 
-        System.out.println("OrderService: User found: " + user.getEmail());
+        log.debug("User found: {}", user.getEmail());
 
         List<Cart> cartItems = cartRepository.findByUserId(userId);
-        System.out.println("OrderService: Cart items found: " + cartItems.size());
+        log.debug("Cart items found: {}", cartItems.size());
 
         if (cartItems.isEmpty()) {
             throw new RuntimeException("Cart is empty");
         }
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        List<PricingEngine.Line> lines = new ArrayList<>(cartItems.size());
         for (Cart cartItem : cartItems) {
             Product product = cartItem.getProduct();
 
             if (product.getStok() < cartItem.getQuantity()) {
+                shopMetrics.stockRejected("checkout");
                 throw new RuntimeException("Insufficient stock for product: " + product.getIsim());
             }
+            lines.add(new PricingEngine.Line(product, cartItem.getQuantity()));
+        }
 
-            totalAmount = totalAmount.add(product.getFiyat().multiply(BigDecimal.valueOf(cartItem.getQuantity())));
+        PricedCart priced = pricingEngine.price(lines, couponCode);
+        if (priced.getCouponMessage() != null) {
+            throw new RuntimeException(priced.getCouponMessage());
         }
 
         Order order = new Order();
-        order.setUser(user);
+        order.setUser(userRepository.getReferenceById(userId));
         order.setOrderDate(LocalDateTime.now());
         order.setStatus("Hazırlanıyor");
-        order.setTotalAmount(totalAmount);
+        order.setTotalAmount(priced.getTotal());
 
         order = orderRepository.save(order);
 
-        for (Cart cartItem : cartItems) {
-            Product product = cartItem.getProduct();
-
-            OrderDetail orderDetail = new OrderDetail();
-            orderDetail.setOrder(order);
-            orderDetail.setProduct(product);
-            orderDetail.setQuantity(cartItem.getQuantity());
-            orderDetail.setPrice(product.getFiyat());
-
-            orderDetailRepository.save(orderDetail);
-
-            // Update product stock
-            product.setStok(product.getStok() - cartItem.getQuantity());
-            productRepository.save(product);
-        }
+        List<OrderDetail> details = saveDetails(order, lines, priced);
+        salesAnalyticsService.recordOrder(order, details, 1);
+        recommendationService.recordOrder(order.getId(), details.stream().map(d -> d.getProduct().getId()).toList());
         cartRepository.deleteByUserId(userId);
+        readYourWritesTracker.markWrite(userId);
+        publishStatusChange(order, null);
 
-        return convertToDTO(order);
+        return convertToDTO(order, user.getName());
     }
 
+    @Transactional(readOnly = true)
     public List<OrderDTO> getUserOrders(Long userId) {
         List<Order> orders = orderRepository.findByUserIdOrderByOrderDateDesc(userId);
         return orders.stream()
@@ -125,6 +144,22 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public OrderHistoryPage getOrderHistory(Long userId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxHistoryPageSize));
+        Slice<OrderSummaryDTO> slice = orderRepository.findSummariesByUserId(userId,
+                PageRequest.of(Math.max(0, page), pageSize));
+        return new OrderHistoryPage(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public OrderDTO getUserOrder(Long userId, Long orderId) {
+        Order order = orderRepository.findByIdAndUserId(orderId, userId)
+                .orElseThrow(() -> new RuntimeException("Order not found"));
+        return convertToDTO(order, order.getUser().getName(), orderDetailRepository.findWithProductByOrderId(orderId));
+    }
+
+    @Transactional(readOnly = true)
     public List<OrderDTO> getAllOrders() {
         List<Order> orders = orderRepository.findAll();
         return orders.stream()
@@ -132,6 +167,7 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public OrderDTO getOrderById(Long orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
@@ -140,24 +176,29 @@ public class OrderService {
 
     @Transactional
     public OrderDTO updateOrderStatus(Long orderId, String status) {
-        System.out.println("OrderService: Updating order " + orderId + " to status: " + status);
+        log.debug("Updating order {} to status: {}", orderId, status);
 
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
-        System.out.println("OrderService: Found order with current status: " + order.getStatus());
+        log.debug("Found order with current status: {}", order.getStatus());
 
+        String previousStatus = order.getStatus();
+        applyCancellationToRollups(order, status);
         order.setStatus(status);
         order = orderRepository.save(order);
+        if (!status.equals(previousStatus)) {
+            publishStatusChange(order, previousStatus);
+        }
 
-        System.out.println("OrderService: Order saved with new status: " + order.getStatus());
+        log.info("Order {} saved with new status: {}", order.getId(), order.getStatus());
 
         return convertToDTO(order);
     }
 
     @Transactional
     public int migrateOrderStatuses() {
-        System.out.println("OrderService: Starting status migration...");
+        log.info("Starting status migration");
 
         List<Order> allOrders = orderRepository.findAll();
         int updatedCount = 0;
@@ -189,28 +230,79 @@ public class OrderService {
             }
 
             if (newStatus != null && !newStatus.equals(currentStatus)) {
-                System.out.println("Migrating order " + order.getId() + " from '" + currentStatus + "' to '" + newStatus + "'");
+                log.info("Migrating order {} from '{}' to '{}'", order.getId(), currentStatus, newStatus);
+                applyCancellationToRollups(order, newStatus);
                 order.setStatus(newStatus);
                 orderRepository.save(order);
+                publishStatusChange(order, currentStatus);
                 updatedCount++;
             }
         }
 
-        System.out.println("OrderService: Migration completed. Updated " + updatedCount + " orders.");
+        log.info("Migration completed. Updated {} orders", updatedCount);
         return updatedCount;
     }
 
-    private OrderDTO convertToDTO(Order order) {
+    // Lines are in the same order as priced.getLines(); also takes the ordered units out of stock
+    private List<OrderDetail> saveDetails(Order order, List<PricingEngine.Line> lines, PricedCart priced) {
+        List<OrderDetail> details = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Product product = lines.get(i).product();
+            int quantity = lines.get(i).quantity();
+
+            OrderDetail orderDetail = new OrderDetail();
+            orderDetail.setOrder(order);
+            orderDetail.setProduct(product);
+            orderDetail.setQuantity(quantity);
+            orderDetail.setPrice(product.getFiyat());
+            orderDetail.setIndirim(priced.getLines().get(i).getDiscount());
+
+            orderDetailRepository.save(orderDetail);
+
+            // Update product stock
+            product.setStok(product.getStok() - quantity);
+            productRepository.save(product);
+            stockMonitorService.recordStockChange(product);
+            cacheInvalidationBus.publish(CacheInvalidationBus.PRODUCT, product.getId());
+            details.add(orderDetail);
+        }
+        return details;
+    }
+
+    // Delivered to OrderEventHub after commit
+    private void publishStatusChange(Order order, String previousStatus) {
+        eventPublisher.publishEvent(new OrderStatusEvent(order.getId(), order.getUser().getId(), previousStatus,
+                order.getStatus(), order.getTotalAmount(), LocalDateTime.now()));
+    }
+
+    private void applyCancellationToRollups(Order order, String newStatus) {
+        boolean wasCancelled = CANCELLED_STATUS.equals(order.getStatus());
+        boolean isCancelled = CANCELLED_STATUS.equals(newStatus);
+        if (wasCancelled != isCancelled) {
+            salesAnalyticsService.recordOrder(order, order.getOrderDetails(), isCancelled ? -1 : 1);
+        }
+    }
+
+    OrderDTO convertToDTO(Order order) {
+        return convertToDTO(order, order.getUser().getName(), order.getOrderDetails());
+    }
+
+    // The user is passed in where only a reference proxy is attached, to avoid initializing it
+    private OrderDTO convertToDTO(Order order, String userName) {
+        return convertToDTO(order, userName, order.getOrderDetails());
+    }
+
+    private OrderDTO convertToDTO(Order order, String userName, List<OrderDetail> details) {
         OrderDTO dto = new OrderDTO();
         dto.setId(order.getId());
         dto.setUserId(order.getUser().getId());
-        dto.setUserName(order.getUser().getName());
+        dto.setUserName(userName);
         dto.setOrderDate(order.getOrderDate());
         dto.setStatus(order.getStatus());
         dto.setTotalAmount(order.getTotalAmount());
 
-        if (order.getOrderDetails() != null) {
-            List<OrderDetailDTO> orderDetails = order.getOrderDetails().stream()
+        if (details != null) {
+            List<OrderDetailDTO> orderDetails = details.stream()
                     .map(this::convertDetailToDTO)
                     .collect(Collectors.toList());
             dto.setOrderDetails(orderDetails);
@@ -226,6 +318,7 @@ public class OrderService {
         dto.setProductName(orderDetail.getProduct().getIsim());
         dto.setQuantity(orderDetail.getQuantity());
         dto.setPrice(orderDetail.getPrice());
+        dto.setDiscount(orderDetail.getIndirim());
         return dto;
     }
 }
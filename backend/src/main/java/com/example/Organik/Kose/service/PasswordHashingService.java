@@ -0,0 +1,82 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.metrics.ShopMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a dedicated bounded pool: at most {@code threads} hashes run at
+ * once and at most {@code queue-capacity} wait. Further submissions fail immediately with
+ * {@link RejectedExecutionException}, which callers turn into a 503 so clients back off
+ * instead of login bursts taking CPU from every other request.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ShopMetrics shopMetrics;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, ShopMetrics shopMetrics, MeterRegistry meterRegistry,
+                                  @Value("${app.security.password.threads:0}") int threads,
+                                  @Value("${app.security.password.queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.shopMetrics = shopMetrics;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password.hashing", List.of()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Checks the password and, when it matches a hash made with outdated parameters,
+     * computes the replacement hash in the same task.
+     */
+    public CompletableFuture<Verification> verify(String rawPassword, String encodedPassword) {
+        return submit("verify", () -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            String upgradedHash = passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? passwordEncoder.encode(rawPassword)
+                    : null;
+            return new Verification(true, upgradedHash);
+        });
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            shopMetrics.passwordHashingRejected(operation);
+            throw e;
+        }
+    }
+
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.dto.PricedCart;
+import com.example.Organik.Kose.dto.PricedCartLine;
+import com.example.Organik.Kose.event.CacheInvalidationEvent;
+import com.example.Organik.Kose.model.Campaign;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.repository.CampaignRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Prices carts against the campaign rules. Active and upcoming campaigns are compiled into an
+ * immutable {@link RuleSet} indexed by product id, category id and coupon code, and swapped in
+ * atomically on reload, so pricing never touches the database and never sees a half-built
+ * rule set. Reloads run without a lock (a monitor held across the query would pin virtual
+ * threads); each takes a sequence number before querying and a rule set only replaces one
+ * loaded earlier, so a slow reload cannot overwrite the result of a newer one. Start and end
+ * dates are checked per evaluation, so campaigns begin and end on time without a reload.
+ * Campaign changes on other instances arrive through the {@link CacheInvalidationBus}; the
+ * scheduled reload is the fallback if a message is lost.
+ *
+ * Each line gets the single best automatic campaign (product, category or store-wide); a
+ * coupon then applies on top to the lines it covers.
+ */
+@Service
+@Slf4j
+public class PricingEngine {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final Rule[] NONE = new Rule[0];
+
+    private final CampaignRepository campaignRepository;
+    private final AtomicReference<RuleSet> rules = new AtomicReference<>(RuleSet.EMPTY);
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    public PricingEngine(CampaignRepository campaignRepository) {
+        this.campaignRepository = campaignRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.pricing.reload-interval-ms:60000}", initialDelayString = "${app.pricing.reload-interval-ms:60000}")
+    public void reload() {
+        long sequence = loadSequence.incrementAndGet();
+        install(campaignRepository.findActiveOrUpcoming(LocalDateTime.now()), sequence);
+    }
+
+    // Local writes reload directly in CampaignService
+    @EventListener(condition = "!#event.local")
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.isFor(CacheInvalidationBus.CAMPAIGN)) {
+            reload();
+        }
+    }
+
+    // Package-private for benchmarks, which install rules without a database
+    void install(List<Campaign> campaigns) {
+        install(campaigns, loadSequence.incrementAndGet());
+    }
+
+    private void install(List<Campaign> campaigns, long sequence) {
+        RuleSet compiled = RuleSet.compile(campaigns, sequence);
+        RuleSet installed = rules.accumulateAndGet(compiled,
+                (current, loaded) -> loaded.sequence > current.sequence ? loaded : current);
+        if (installed == compiled) {
+            log.debug("Compiled {} campaign rules", campaigns.size());
+        } else {
+            log.debug("Discarded campaign rules of reload {}, a newer reload finished first", sequence);
+        }
+    }
+
+    public static String normalizeCoupon(String couponCode) {
+        return couponCode == null || couponCode.isBlank() ? null : couponCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public PricedCart price(List<Line> lines, String couponCode) {
+        RuleSet ruleSet = rules.get();
+        LocalDateTime now = LocalDateTime.now();
+        String code = normalizeCoupon(couponCode);
+        Rule coupon = code != null ? ruleSet.coupons.get(code) : null;
+        if (coupon != null && !coupon.isActive(now)) {
+            coupon = null;
+        }
+
+        int size = lines.size();
+        BigDecimal[] lineTotals = new BigDecimal[size];
+        BigDecimal[] campaignDiscounts = new BigDecimal[size];
+        BigDecimal[] couponDiscounts = coupon != null ? new BigDecimal[size] : null;
+        String[] campaignNames = new String[size];
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal afterCampaigns = BigDecimal.ZERO;
+
+        for (int i = 0; i < size; i++) {
+            Line line = lines.get(i);
+            Product product = line.product();
+            Long productId = product.getId();
+            Long categoryId = product.getCategory().getId();
+            BigDecimal lineTotal = product.getFiyat().multiply(BigDecimal.valueOf(line.quantity()));
+
+            BigDecimal best = BigDecimal.ZERO;
+            Rule bestRule = null;
+            for (int scope = 0; scope < 3; scope++) {
+                Rule[] candidates = scope == 0 ? ruleSet.byProduct.getOrDefault(productId, NONE)
+                        : scope == 1 ? ruleSet.byCategory.getOrDefault(categoryId, NONE)
+                        : ruleSet.global;
+                for (Rule rule : candidates) {
+                    if (rule.isActive(now)) {
+                        BigDecimal discount = rule.discount(product.getFiyat(), line.quantity(), lineTotal);
+                        if (discount.compareTo(best) > 0) {
+                            best = discount;
+                            bestRule = rule;
+                        }
+                    }
+                }
+            }
+
+            lineTotals[i] = lineTotal;
+            campaignDiscounts[i] = best;
+            campaignNames[i] = bestRule != null ? bestRule.name : null;
+            subtotal = subtotal.add(lineTotal);
+            BigDecimal remaining = lineTotal.subtract(best);
+            afterCampaigns = afterCampaigns.add(remaining);
+            if (coupon != null) {
+                couponDiscounts[i] = coupon.covers(productId, categoryId)
+                        ? coupon.discount(product.getFiyat(), line.quantity(), remaining)
+                        : BigDecimal.ZERO;
+            }
+        }
+
+        String couponMessage = null;
+        if (code != null && coupon == null) {
+            couponMessage = "Kupon gecersiz veya suresi dolmus";
+        } else if (coupon != null && coupon.minCartAmount != null && afterCampaigns.compareTo(coupon.minCartAmount) < 0) {
+            couponMessage = "Kupon icin en az " + coupon.minCartAmount + " TL tutarinda alisveris gerekli";
+            coupon = null;
+        }
+
+        List<PricedCartLine> priced = new ArrayList<>(size);
+        BigDecimal discountTotal = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            Line line = lines.get(i);
+            BigDecimal discount = campaignDiscounts[i];
+            if (coupon != null) {
+                discount = discount.add(couponDiscounts[i]);
+            }
+            discountTotal = discountTotal.add(discount);
+            priced.add(new PricedCartLine(line.product().getId(), line.product().getIsim(), line.quantity(),
+                    line.product().getFiyat(), lineTotals[i], discount, lineTotals[i].subtract(discount), campaignNames[i]));
+        }
+
+        return new PricedCart(priced, subtotal, discountTotal, subtotal.subtract(discountTotal),
+                code, coupon != null, couponMessage);
+    }
+
+    public record Line(Product product, int quantity) {
+    }
+
+    private static final class Rule {
+        final String name;
+        final Campaign.Type type;
+        final BigDecimal rate;
+        final int buy;
+        final int free;
+        final Long productId;
+        final Long categoryId;
+        final BigDecimal minCartAmount;
+        final LocalDateTime start;
+        final LocalDateTime end;
+
+        Rule(Campaign campaign) {
+            this.name = campaign.getIsim();
+            this.type = campaign.getTip();
+            this.rate = campaign.getIndirimOrani() != null
+                    ? campaign.getIndirimOrani().divide(HUNDRED, 6, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+            this.buy = campaign.getAlAdet() != null ? campaign.getAlAdet() : 0;
+            this.free = campaign.getBedavaAdet() != null ? campaign.getBedavaAdet() : 0;
+            this.productId = campaign.getUrunId();
+            this.categoryId = campaign.getKategoriId();
+            this.minCartAmount = campaign.getMinSepetTutari();
+            this.start = campaign.getBaslangic();
+            this.end = campaign.getBitis();
+        }
+
+        boolean isActive(LocalDateTime now) {
+            return (start == null || !now.isBefore(start)) && (end == null || now.isBefore(end));
+        }
+
+        boolean covers(Long productId, Long categoryId) {
+            return (this.productId == null || this.productId.equals(productId))
+                    && (this.categoryId == null || this.categoryId.equals(categoryId));
+        }
+
+        BigDecimal discount(BigDecimal unitPrice, int quantity, BigDecimal base) {
+            if (type == Campaign.Type.BUY_X_GET_Y) {
+                if (buy + free <= 0) {
+                    return BigDecimal.ZERO;
+                }
+                int freeUnits = quantity / (buy + free) * free;
+                return unitPrice.multiply(BigDecimal.valueOf(freeUnits));
+            }
+            return base.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    private static final class RuleSet {
+        static final RuleSet EMPTY = new RuleSet(0, Map.of(), Map.of(), NONE, Map.of());
+
+        final long sequence;
+        final Map<Long, Rule[]> byProduct;
+        final Map<Long, Rule[]> byCategory;
+        final Rule[] global;
+        final Map<String, Rule> coupons;
+
+        RuleSet(long sequence, Map<Long, Rule[]> byProduct, Map<Long, Rule[]> byCategory, Rule[] global,
+                Map<String, Rule> coupons) {
+            this.sequence = sequence;
+            this.byProduct = byProduct;
+            this.byCategory = byCategory;
+            this.global = global;
+            this.coupons = coupons;
+        }
+
+        static RuleSet compile(List<Campaign> campaigns, long sequence) {
+            Map<Long, List<Rule>> byProduct = new HashMap<>();
+            Map<Long, List<Rule>> byCategory = new HashMap<>();
+            List<Rule> global = new ArrayList<>();
+            Map<String, Rule> coupons = new HashMap<>();
+
+            for (Campaign campaign : campaigns) {
+                Rule rule = new Rule(campaign);
+                if (campaign.getTip() == Campaign.Type.COUPON) {
+                    String code = normalizeCoupon(campaign.getKuponKodu());
+                    if (code != null) {
+                        coupons.put(code, rule);
+                    }
+                } else if (rule.productId != null) {
+                    byProduct.computeIfAbsent(rule.productId, id -> new ArrayList<>()).add(rule);
+                } else if (rule.categoryId != null) {
+                    byCategory.computeIfAbsent(rule.categoryId, id -> new ArrayList<>()).add(rule);
+                } else {
+                    global.add(rule);
+                }
+            }
+            return new RuleSet(sequence, toArrays(byProduct), toArrays(byCategory), global.toArray(NONE), Map.copyOf(coupons));
+        }
+
+        private static Map<Long, Rule[]> toArrays(Map<Long, List<Rule>> rules) {
+            Map<Long, Rule[]> arrays = new HashMap<>(rules.size() * 2);
+            rules.forEach((id, list) -> arrays.put(id, list.toArray(NONE)));
+            return arrays;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.Organik.Kose.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Stores uploaded product images as pre-resized variants on local disk. Images are keyed by
+ * a hash of the uploaded bytes, so a variant's content never changes once written and can be
+ * cached by clients forever; uploading the same file twice reuses the existing variants.
+ *
+ * JPEG variants are always written. A WebP variant is written as well when an ImageIO WebP
+ * writer plugin is on the classpath (the JDK has none).
+ */
+@Service
+@Slf4j
+public class ProductImageService {
+
+    public static final String URL_PREFIX = "/api/images/";
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{32}");
+
+    private final Path root;
+    private final Map<String, Integer> variants = new LinkedHashMap<>();
+    private final String defaultVariant;
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+    private final boolean webpAvailable = ImageIO.getImageWritersByFormatName("webp").hasNext();
+
+    public ProductImageService(@Value("${app.images.dir:data/images}") String dir,
+                               @Value("${app.images.variants:thumb:200,card:480,large:1200}") String variantSpec,
+                               @Value("${app.images.default-variant:card}") String defaultVariant,
+                               @Value("${app.images.jpeg-quality:0.82}") float jpegQuality,
+                               @Value("${app.images.max-source-pixels:40000000}") long maxSourcePixels) throws IOException {
+        this.root = Paths.get(dir).toAbsolutePath();
+        Files.createDirectories(root);
+        for (String spec : variantSpec.split(",")) {
+            String[] parts = spec.trim().split(":");
+            variants.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        if (!variants.containsKey(defaultVariant)) {
+            throw new IllegalArgumentException("Unknown default image variant: " + defaultVariant);
+        }
+        this.defaultVariant = defaultVariant;
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+        log.info("Product images stored in {} (variants {}, WebP {})", root, variants.keySet(),
+                webpAvailable ? "enabled" : "unavailable");
+    }
+
+    /**
+     * Decodes the upload, writes every variant and returns the URL of the default variant.
+     */
+    public String store(InputStream in) throws IOException {
+        byte[] source = in.readAllBytes();
+        String key = hash(source);
+        Path dir = root.resolve(key);
+
+        // Checks every file: an earlier upload that failed part way may have written only some
+        Map<String, Integer> missing = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> variant : variants.entrySet()) {
+            if (!Files.exists(dir.resolve(variant.getKey() + ".jpg"))
+                    || webpAvailable && !Files.exists(dir.resolve(variant.getKey() + ".webp"))) {
+                missing.put(variant.getKey(), variant.getValue());
+            }
+        }
+        if (!missing.isEmpty()) {
+            BufferedImage image = decode(source);
+            Files.createDirectories(dir);
+            for (Map.Entry<String, Integer> variant : missing.entrySet()) {
+                BufferedImage scaled = scale(image, variant.getValue());
+                write(scaled, "jpeg", dir.resolve(variant.getKey() + ".jpg"));
+                if (webpAvailable) {
+                    write(scaled, "webp", dir.resolve(variant.getKey() + ".webp"));
+                }
+            }
+            log.debug("Stored image {} variants {} ({}x{})", key, missing.keySet(), image.getWidth(), image.getHeight());
+        }
+        return URL_PREFIX + key + "/" + defaultVariant;
+    }
+
+    /**
+     * @return the variant file, or null if the key or variant is unknown
+     */
+    public Path resolve(String key, String variant, boolean acceptsWebp) {
+        if (!KEY.matcher(key).matches() || !variants.containsKey(variant)) {
+            return null;
+        }
+        Path dir = root.resolve(key);
+        if (acceptsWebp) {
+            Path webp = dir.resolve(variant + ".webp");
+            if (Files.isRegularFile(webp)) {
+                return webp;
+            }
+        }
+        Path jpeg = dir.resolve(variant + ".jpg");
+        return Files.isRegularFile(jpeg) ? jpeg : null;
+    }
+
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Checked from the header before any pixels are allocated
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new IllegalArgumentException("Image too large: " + pixels + " pixels");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int maxEdge) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        // Halving steps keep bilinear downscaling sharp without aliasing
+        BufferedImage current = image;
+        int w = width;
+        int h = height;
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            if (current != image && w == current.getWidth() && h == current.getHeight()) {
+                break;
+            }
+            current = draw(current, w, h);
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    // Also flattens transparency onto white, which JPEG cannot store
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        Path tmp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (param.canWriteCompressed()) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                        param.setCompressionType(param.getCompressionTypes()[0]);
+                    }
+                    param.setCompressionQuality(jpegQuality);
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            // Readers never see a partially written variant
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String hash(byte[] source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.cache.HibernateCacheEvictor;
+import com.example.Organik.Kose.dto.ProductDTO;
+import com.example.Organik.Kose.dto.ProductImportResult;
+import com.example.Organik.Kose.repository.ProductJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ProductImportExportService {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            return contentType != null && contentType.contains("json") ? NDJSON : CSV;
+        }
+    }
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("isim")
+            .addColumn("fiyat")
+            .addColumn("açıklama")
+            .addColumn("resimUrl")
+            .addColumn("stok")
+            .addColumn("aktif")
+            .addColumn("categoryId")
+            .addColumn("categoryName")
+            .build()
+            .withHeader();
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final StockMonitorService stockMonitorService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final HibernateCacheEvictor hibernateCacheEvictor;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    public ProductImportResult importProducts(InputStream in, Format format) throws IOException {
+        long start = System.nanoTime();
+        Map<String, Long> categoryIds = productJdbcRepository.findCategoryIdsByName();
+        Set<Long> knownCategoryIds = new HashSet<>(categoryIds.values());
+
+        ProductImportResult result = new ProductImportResult();
+        List<PendingRow> pending = new ArrayList<>(batchSize);
+        List<Long> changedIds = new ArrayList<>();
+        long rowNumber = 0;
+
+        try (MappingIterator<ProductDTO> rows = reader(format).readValues(in)) {
+            while (true) {
+                ProductDTO row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    rowNumber++;
+                    row = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // Malformed values: the iterator resyncs to the next record
+                    addError(result, rowNumber, e.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // Broken syntax: the rest of the stream cannot be trusted
+                    addError(result, rowNumber, e.getOriginalMessage());
+                    break;
+                }
+
+                String error = validate(row, categoryIds, knownCategoryIds);
+                if (error != null) {
+                    addError(result, rowNumber, error);
+                    continue;
+                }
+
+                pending.add(new PendingRow(rowNumber, row));
+                if (pending.size() >= batchSize) {
+                    flush(pending, result, changedIds);
+                }
+            }
+        }
+        flush(pending, result, changedIds);
+        if (!changedIds.isEmpty()) {
+            hibernateCacheEvictor.evictProducts(changedIds);
+            stockMonitorService.refresh(changedIds);
+            cacheInvalidationBus.publishAll(CacheInvalidationBus.PRODUCT, changedIds);
+        }
+
+        result.setTotalRows((int) rowNumber);
+        result.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    public void exportProducts(OutputStream out, Format format) throws IOException {
+        SequenceWriter writer = format == Format.CSV
+                ? CSV_MAPPER.writer(CSV_SCHEMA).writeValues(out)
+                : objectMapper.writer().withRootValueSeparator("\n").writeValues(out);
+
+        try {
+            productJdbcRepository.streamAll(exportFetchSize, rs -> {
+                try {
+                    writer.write(ProductJdbcRepository.mapRow(rs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } finally {
+            writer.flush();
+        }
+    }
+
+    private ObjectReader reader(Format format) {
+        if (format == Format.CSV) {
+            return CSV_MAPPER.readerFor(ProductDTO.class).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(ProductDTO.class);
+    }
+
+    private String validate(ProductDTO row, Map<String, Long> categoryIds, Set<Long> knownCategoryIds) {
+        boolean insert = row.getId() == null;
+
+        if (row.getCategoryId() != null) {
+            if (!knownCategoryIds.contains(row.getCategoryId())) {
+                return "Category not found: " + row.getCategoryId();
+            }
+        } else if (row.getCategoryName() != null) {
+            Long categoryId = categoryIds.get(row.getCategoryName());
+            if (categoryId == null) {
+                return "Category not found: " + row.getCategoryName();
+            }
+            row.setCategoryId(categoryId);
+        } else if (insert) {
+            return "Category is required";
+        }
+
+        if (insert) {
+            if (row.getIsim() == null || row.getIsim().isBlank()) {
+                return "isim is required";
+            }
+            if (row.getFiyat() == null) {
+                return "fiyat is required";
+            }
+            if (row.getStok() == null) row.setStok(0);
+            if (row.getAktif() == null) row.setAktif(true);
+        }
+
+        if (row.getFiyat() != null && row.getFiyat().compareTo(BigDecimal.ZERO) < 0) {
+            return "fiyat must not be negative";
+        }
+        if (row.getStok() != null && row.getStok() < 0) {
+            return "stok must not be negative";
+        }
+        return null;
+    }
+
+    private void flush(List<PendingRow> pending, ProductImportResult result, List<Long> changedIds) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(pending, result, changedIds));
+        } catch (DataAccessException e) {
+            // Re-run the failed chunk row by row so the offending lines can be reported
+            for (PendingRow row : pending) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(row), result, changedIds));
+                } catch (DataAccessException rowError) {
+                    addError(result, row.row(), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    private void write(List<PendingRow> rows, ProductImportResult result, List<Long> changedIds) {
+        List<ProductDTO> inserts = new ArrayList<>();
+        List<PendingRow> updates = new ArrayList<>();
+        for (PendingRow row : rows) {
+            if (row.product().getId() == null) {
+                inserts.add(row.product());
+            } else {
+                updates.add(row);
+            }
+        }
+
+        List<Long> insertedIds = productJdbcRepository.batchInsert(inserts);
+        int[] updateCounts = productJdbcRepository.batchUpdate(updates.stream().map(PendingRow::product).toList());
+
+        List<Long> updatedIds = new ArrayList<>();
+        List<PendingRow> missing = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                updatedIds.add(updates.get(i).product().getId());
+            } else {
+                missing.add(updates.get(i));
+            }
+        }
+
+        changedIds.addAll(insertedIds);
+        changedIds.addAll(updatedIds);
+        result.setInserted(result.getInserted() + inserts.size());
+        result.setUpdated(result.getUpdated() + updatedIds.size());
+        for (PendingRow row : missing) {
+            addError(result, row.row(), "Product not found: " + row.product().getId());
+        }
+    }
+
+    private void addError(ProductImportResult result, long row, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new ProductImportResult.RowError(row, message));
+        }
+    }
+
+    private record PendingRow(long row, ProductDTO product) {
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.Organik.Kose.service;
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.cache.HibernateCacheEvictor;
+import com.example.Organik.Kose.dto.LowStockItem;
+import com.example.Organik.Kose.dto.ProductBulkUpdateItem;
+import com.example.Organik.Kose.dto.ProductBulkUpdateResult;
 import com.example.Organik.Kose.dto.ProductDTO;
 import com.example.Organik.Kose.model.Category;
 import com.example.Organik.Kose.model.Product;
 import com.example.Organik.Kose.repository.CategoryRepository;
+import com.example.Organik.Kose.repository.ProductJdbcRepository;
 import com.example.Organik.Kose.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.sql.Statement;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,7 +25,15 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final StockMonitorService stockMonitorService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final HibernateCacheEvictor hibernateCacheEvictor;
 
+    @Value("${app.bulk-update.batch-size:500}")
+    private int bulkUpdateBatchSize;
+
+    @Transactional(readOnly = true)
     public List<ProductDTO> getAllProducts() {
         return productRepository.findByAktifTrue()
                 .stream()
@@ -23,12 +41,14 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ProductDTO getProductById(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
         return convertToDTO(product);
     }
 
+    @Transactional(readOnly = true)
     public List<ProductDTO> getProductsByCategory(Long categoryId) {
         return productRepository.findByCategoryIdAndAktifTrue(categoryId)
                 .stream()
@@ -36,6 +56,11 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    public List<LowStockItem> getLowStockProducts(int limit) {
+        return stockMonitorService.getLowStockProducts(limit);
+    }
+
+    @Transactional(readOnly = true)
     public List<ProductDTO> searchProducts(String searchTerm) {
         return productRepository.findBySearchTerm(searchTerm)
                 .stream()
@@ -53,9 +78,12 @@ public class ProductService {
         product.setAçıklama(productDTO.getAçıklama());
         product.setResimUrl(productDTO.getResimUrl());
         product.setStok(productDTO.getStok());
+        product.setStokEsigi(productDTO.getStokEsigi());
         product.setCategory(category);
 
         product = productRepository.save(product);
+        stockMonitorService.recordStockChange(product);
+        cacheInvalidationBus.publish(CacheInvalidationBus.PRODUCT, product.getId());
         return convertToDTO(product);
     }
 
@@ -74,19 +102,59 @@ public class ProductService {
         if (productDTO.getAçıklama() != null) product.setAçıklama(productDTO.getAçıklama());
         if (productDTO.getResimUrl() != null) product.setResimUrl(productDTO.getResimUrl());
         if (productDTO.getStok() != null) product.setStok(productDTO.getStok());
+        if (productDTO.getStokEsigi() != null) product.setStokEsigi(productDTO.getStokEsigi());
         if (productDTO.getAktif() != null) product.setAktif(productDTO.getAktif());
 
         product = productRepository.save(product);
+        stockMonitorService.recordStockChange(product);
+        cacheInvalidationBus.publish(CacheInvalidationBus.PRODUCT, product.getId());
         return convertToDTO(product);
     }
 
+    @Transactional
+    public ProductBulkUpdateResult bulkUpdate(List<ProductBulkUpdateItem> items) {
+        long start = System.nanoTime();
+        for (ProductBulkUpdateItem item : items) {
+            if (item.getProductId() == null) {
+                throw new RuntimeException("productId is required");
+            }
+            if (item.getFiyat() != null && item.getFiyat().compareTo(BigDecimal.ZERO) < 0) {
+                throw new RuntimeException("Invalid price for product: " + item.getProductId());
+            }
+            if (item.getStok() != null && item.getStok() < 0) {
+                throw new RuntimeException("Invalid stock for product: " + item.getProductId());
+            }
+        }
+
+        int[] counts = productJdbcRepository.batchUpdatePriceAndStock(items, bulkUpdateBatchSize);
+        List<Long> productIds = items.stream().map(ProductBulkUpdateItem::getProductId).toList();
+        hibernateCacheEvictor.evictProducts(productIds);
+        stockMonitorService.recordBulkStockChanges(items, counts);
+        // Other instances reload only these rows; past max-ids-per-change they reload every product
+        cacheInvalidationBus.publishAll(CacheInvalidationBus.PRODUCT, productIds);
+
+        ProductBulkUpdateResult result = new ProductBulkUpdateResult();
+        result.setRequested(items.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                result.setUpdated(result.getUpdated() + 1);
+            } else {
+                result.getNotFound().add(items.get(i).getProductId());
+            }
+        }
+        result.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
     public void deleteProduct(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
         productRepository.delete(product);
+        stockMonitorService.remove(id);
+        cacheInvalidationBus.publish(CacheInvalidationBus.PRODUCT, id);
     }
 
-    private ProductDTO convertToDTO(Product product) {
+    ProductDTO convertToDTO(Product product) {
         ProductDTO dto = new ProductDTO();
         dto.setId(product.getId());
         dto.setIsim(product.getIsim());
@@ -94,6 +162,7 @@ public class ProductService {
         dto.setAçıklama(product.getAçıklama());
         dto.setResimUrl(product.getResimUrl());
         dto.setStok(product.getStok());
+        dto.setStokEsigi(product.getStokEsigi());
         dto.setAktif(product.getAktif());
         dto.setCategoryId(product.getCategory().getId());
         dto.setCategoryName(product.getCategory().getName());
@@ -0,0 +1,246 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.dto.RelatedProductDTO;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.repository.ProductRepository;
+import com.example.Organik.Kose.repository.RecommendationJdbcRepository;
+import com.example.Organik.Kose.util.LongIntHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * "Frequently bought together" recommendations from a sparse product co-occurrence matrix.
+ * The matrix is rebuilt periodically from order_details and updated incrementally as orders
+ * are placed. The top-K lists hold only product ids and scores; names, prices and images are
+ * resolved per read from the second-level cache, so catalog edits show up immediately.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final Related[] NONE = new Related[0];
+
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final ProductRepository productRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Guarded by writeLock
+    private Map<Long, LongIntHashMap> matrix = new HashMap<>();
+    private List<Basket> pendingBaskets;
+
+    // Products inactive at the last rebuild are kept out of the top-K slots; later changes are checked per read
+    private volatile Set<Long> inactiveIds = Set.of();
+    private volatile Map<Long, Related[]> topK = new ConcurrentHashMap<>();
+
+    @Value("${app.recommendations.top-k:20}")
+    private int k;
+
+    @Value("${app.recommendations.max-basket-size:50}")
+    private int maxBasketSize;
+
+    @Value("${app.recommendations.fetch-size:5000}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public List<RelatedProductDTO> getRelatedProducts(Long productId, int limit) {
+        Related[] related = topK.getOrDefault(productId, NONE);
+        List<RelatedProductDTO> cards = new ArrayList<>(Math.min(limit, related.length));
+        for (Related entry : related) {
+            if (cards.size() >= limit) {
+                break;
+            }
+            productRepository.findById(entry.productId())
+                    .filter(Product::getAktif)
+                    .ifPresent(product -> cards.add(new RelatedProductDTO(product.getId(), product.getIsim(),
+                            product.getFiyat(), product.getResimUrl(), entry.score())));
+        }
+        return cards;
+    }
+
+    public void recordOrder(Long orderId, List<Long> productIds) {
+        long[] distinct = productIds.stream().mapToLong(Long::longValue).distinct().limit(maxBasketSize).toArray();
+        if (distinct.length < 2) {
+            return;
+        }
+        Basket basket = new Basket(orderId, distinct);
+
+        Runnable apply = () -> {
+            writeLock.lock();
+            try {
+                if (pendingBaskets != null) {
+                    pendingBaskets.add(basket);
+                }
+                addBasket(matrix, basket.productIds);
+                Set<Long> currentInactive = inactiveIds;
+                for (long productId : basket.productIds) {
+                    topK.put(productId, computeTopK(matrix.get(productId), currentInactive));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.recommendations.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        writeLock.lock();
+        try {
+            pendingBaskets = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            long maxOrderId = recommendationJdbcRepository.findMaxOrderId();
+            List<long[]> baskets = recommendationJdbcRepository.findBaskets(maxOrderId, fetchSize, maxBasketSize);
+            Map<Long, LongIntHashMap> newMatrix = ForkJoinPool.commonPool()
+                    .invoke(new CountTask(baskets, 0, baskets.size()));
+            Set<Long> newInactive = recommendationJdbcRepository.findInactiveProductIds();
+
+            writeLock.lock();
+            try {
+                // Orders committed while the snapshot was being read are replayed onto it
+                for (Basket basket : pendingBaskets) {
+                    if (basket.orderId > maxOrderId) {
+                        addBasket(newMatrix, basket.productIds);
+                    }
+                }
+                Map<Long, Related[]> newTopK = new ConcurrentHashMap<>(newMatrix.size() * 2);
+                newMatrix.forEach((productId, row) -> {
+                    Related[] related = computeTopK(row, newInactive);
+                    if (related.length > 0) {
+                        newTopK.put(productId, related);
+                    }
+                });
+
+                matrix = newMatrix;
+                inactiveIds = newInactive;
+                topK = newTopK;
+            } finally {
+                writeLock.unlock();
+            }
+
+            log.info("Rebuilt co-purchase matrix from {} baskets, {} products in {} ms",
+                    baskets.size(), newMatrix.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            writeLock.lock();
+            try {
+                pendingBaskets = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private Related[] computeTopK(LongIntHashMap row, Set<Long> currentInactive) {
+        if (row == null) {
+            return NONE;
+        }
+        PriorityQueue<long[]> best = new PriorityQueue<>(k + 1,
+                (a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(b[0], a[0]));
+        row.forEach((otherId, count) -> {
+            if (count > 0 && !currentInactive.contains(otherId)) {
+                best.add(new long[]{otherId, count});
+                if (best.size() > k) {
+                    best.poll();
+                }
+            }
+        });
+
+        Related[] related = new Related[best.size()];
+        for (int i = related.length - 1; i >= 0; i--) {
+            long[] entry = best.poll();
+            related[i] = new Related(entry[0], (int) entry[1]);
+        }
+        return related;
+    }
+
+    private static void addBasket(Map<Long, LongIntHashMap> target, long[] productIds) {
+        for (long a : productIds) {
+            LongIntHashMap row = target.computeIfAbsent(a, id -> new LongIntHashMap());
+            for (long b : productIds) {
+                if (a != b) {
+                    row.addTo(b, 1);
+                }
+            }
+        }
+    }
+
+    private record Basket(long orderId, long[] productIds) {
+    }
+
+    private record Related(long productId, int score) {
+    }
+
+    private static class CountTask extends RecursiveTask<Map<Long, LongIntHashMap>> {
+        private static final int THRESHOLD = 4096;
+
+        private final List<long[]> baskets;
+        private final int from;
+        private final int to;
+
+        CountTask(List<long[]> baskets, int from, int to) {
+            this.baskets = baskets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, LongIntHashMap> compute() {
+            if (to - from <= THRESHOLD) {
+                Map<Long, LongIntHashMap> partial = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    addBasket(partial, baskets.get(i));
+                }
+                return partial;
+            }
+
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(baskets, from, mid);
+            left.fork();
+            Map<Long, LongIntHashMap> right = new CountTask(baskets, mid, to).compute();
+            Map<Long, LongIntHashMap> merged = left.join();
+
+            right.forEach((productId, row) -> {
+                LongIntHashMap existing = merged.get(productId);
+                if (existing == null) {
+                    merged.put(productId, row);
+                } else {
+                    existing.addAll(row);
+                }
+            });
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.dto.ProductDTO;
+import com.example.Organik.Kose.dto.RevenueReportDTO;
+import com.example.Organik.Kose.dto.SalesVelocityDTO;
+import com.example.Organik.Kose.model.DailySales;
+import com.example.Organik.Kose.model.Order;
+import com.example.Organik.Kose.model.OrderDetail;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.model.ProductDailySales;
+import com.example.Organik.Kose.repository.DailySalesRepository;
+import com.example.Organik.Kose.repository.OrderDetailRepository;
+import com.example.Organik.Kose.repository.OrderRepository;
+import com.example.Organik.Kose.repository.ProductDailySalesRepository;
+import com.example.Organik.Kose.repository.ProductJdbcRepository;
+import com.example.Organik.Kose.repository.ProductRepository;
+import com.example.Organik.Kose.repository.RollupJdbcRepository;
+import com.example.Organik.Kose.repository.RollupJdbcRepository.DailySalesDelta;
+import com.example.Organik.Kose.repository.RollupJdbcRepository.ProductDailyQuantity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-product and per-category daily rollups kept up to date as orders are created or cancelled.
+ * Velocity, reorder and revenue figures are computed from these rollups only, never from raw
+ * order lines.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SalesAnalyticsService {
+
+    public static final String CANCELLED_STATUS = "İptal Edildi";
+
+    private final ProductDailySalesRepository productDailySalesRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final OrderRepository orderRepository;
+    private final OrderDetailRepository orderDetailRepository;
+    private final RollupJdbcRepository rollupJdbcRepository;
+    private final ProductRepository productRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.analytics.short-window-days:7}")
+    private int shortWindowDays;
+
+    @Value("${app.analytics.long-window-days:28}")
+    private int longWindowDays;
+
+    @Value("${app.analytics.lead-time-days:7}")
+    private int leadTimeDays;
+
+    @Value("${app.analytics.cover-days:14}")
+    private int coverDays;
+
+    @Value("${app.analytics.backfill-chunk-size:5000}")
+    private int backfillChunkSize;
+
+    /**
+     * Adds (sign = 1) or removes (sign = -1, e.g. on cancellation) an order's lines from the
+     * product and category rollups of the order's day. Runs inside the caller's transaction.
+     */
+    public void recordOrder(Order order, List<OrderDetail> details, int sign) {
+        LocalDate salesDate = order.getOrderDate().toLocalDate();
+        Map<Long, Integer> quantitiesByProduct = new HashMap<>();
+        Map<Long, CategoryTotals> totalsByCategory = new HashMap<>();
+        int units = 0;
+
+        for (OrderDetail detail : details) {
+            int quantity = detail.getQuantity();
+            BigDecimal lineTotal = detail.getPrice().multiply(BigDecimal.valueOf(quantity)).subtract(detail.getIndirim());
+            quantitiesByProduct.merge(detail.getProduct().getId(), quantity, Integer::sum);
+            totalsByCategory.computeIfAbsent(detail.getProduct().getCategory().getId(), id -> new CategoryTotals())
+                    .add(quantity, lineTotal);
+            units += quantity;
+        }
+
+        List<ProductDailyQuantity> productRows = new ArrayList<>(quantitiesByProduct.size());
+        quantitiesByProduct.forEach((productId, quantity) ->
+                productRows.add(new ProductDailyQuantity(productId, salesDate, sign * quantity)));
+        rollupJdbcRepository.addProductDailySales(productRows);
+
+        List<DailySalesDelta> dailyRows = new ArrayList<>(totalsByCategory.size() + 1);
+        totalsByCategory.forEach((categoryId, totals) -> dailyRows.add(new DailySalesDelta(salesDate, categoryId,
+                sign, sign * totals.units, totals.revenue.multiply(BigDecimal.valueOf(sign)))));
+        dailyRows.add(new DailySalesDelta(salesDate, DailySales.ALL_CATEGORIES,
+                sign, sign * units, order.getTotalAmount().multiply(BigDecimal.valueOf(sign))));
+        rollupJdbcRepository.addDailySales(dailyRows);
+    }
+
+    /**
+     * Recomputes product_daily_sales from the order lines while checkout keeps updating it. The
+     * order lines and the current rollup are read in one repeatable-read transaction, so both
+     * reflect the same snapshot, and their difference is collected in the staging table. That
+     * difference is then added to the live rollup in a single transaction: readers never see a
+     * partial rebuild, and orders recorded or cancelled after the snapshot stay counted, since
+     * incremental updates are additive as well.
+     */
+    public long rebuildSalesRollups() {
+        long processed = snapshotTransaction().execute(status -> {
+            rollupJdbcRepository.deleteAll(RollupJdbcRepository.PRODUCT_DAILY_SALES_REBUILD);
+
+            long maxId = orderDetailRepository.findMaxId();
+            long afterId = 0;
+            long lineCount = 0;
+            while (true) {
+                List<OrderDetailRepository.SalesLine> lines = orderDetailRepository.findSalesLines(
+                        afterId, maxId, CANCELLED_STATUS, PageRequest.of(0, backfillChunkSize));
+                if (lines.isEmpty()) {
+                    break;
+                }
+
+                Map<SalesKey, Integer> totals = new HashMap<>();
+                for (OrderDetailRepository.SalesLine line : lines) {
+                    SalesKey key = new SalesKey(line.getProductId(), line.getOrderDate().toLocalDate());
+                    totals.merge(key, line.getQuantity(), Integer::sum);
+                }
+                List<ProductDailyQuantity> rows = new ArrayList<>(totals.size());
+                totals.forEach((key, quantity) -> rows.add(new ProductDailyQuantity(key.productId(), key.salesDate(), quantity)));
+                rollupJdbcRepository.addProductDailySales(RollupJdbcRepository.PRODUCT_DAILY_SALES_REBUILD, rows);
+
+                afterId = lines.get(lines.size() - 1).getId();
+                lineCount += lines.size();
+            }
+
+            // Subtract the rollup as of the same snapshot, leaving the correction per row
+            afterId = 0;
+            while (true) {
+                List<ProductDailySales> current = rollupJdbcRepository.findProductDailySales(
+                        RollupJdbcRepository.PRODUCT_DAILY_SALES, afterId, backfillChunkSize);
+                if (current.isEmpty()) {
+                    break;
+                }
+                List<ProductDailyQuantity> rows = new ArrayList<>(current.size());
+                for (ProductDailySales row : current) {
+                    rows.add(new ProductDailyQuantity(row.getProductId(), row.getSalesDate(), -row.getQuantity()));
+                }
+                rollupJdbcRepository.addProductDailySales(RollupJdbcRepository.PRODUCT_DAILY_SALES_REBUILD, rows);
+                afterId = current.get(current.size() - 1).getId();
+            }
+            return lineCount;
+        });
+
+        long corrected = transactionTemplate.execute(status -> {
+            long rowCount = 0;
+            long afterId = 0;
+            while (true) {
+                List<ProductDailySales> corrections = rollupJdbcRepository.findProductDailySales(
+                        RollupJdbcRepository.PRODUCT_DAILY_SALES_REBUILD, afterId, backfillChunkSize);
+                if (corrections.isEmpty()) {
+                    break;
+                }
+                List<ProductDailyQuantity> rows = new ArrayList<>(corrections.size());
+                for (ProductDailySales row : corrections) {
+                    if (row.getQuantity() != 0) {
+                        rows.add(new ProductDailyQuantity(row.getProductId(), row.getSalesDate(), row.getQuantity()));
+                    }
+                }
+                rollupJdbcRepository.addProductDailySales(rows);
+                rowCount += rows.size();
+                afterId = corrections.get(corrections.size() - 1).getId();
+            }
+            rollupJdbcRepository.deleteAll(RollupJdbcRepository.PRODUCT_DAILY_SALES_REBUILD);
+            return rowCount;
+        });
+
+        log.info("Rebuilt product daily sales from {} order lines, {} rows corrected", processed, corrected);
+        return processed;
+    }
+
+    /**
+     * Recomputes daily_sales the same way as {@link #rebuildSalesRollups()}: orders and the
+     * current rollup are read from one snapshot, and the difference is added to the live table in
+     * a single transaction.
+     */
+    public long rebuildRevenueRollups() {
+        long months = snapshotTransaction().execute(status -> {
+            rollupJdbcRepository.deleteAll(RollupJdbcRepository.DAILY_SALES_REBUILD);
+
+            LocalDateTime first = orderRepository.findMinOrderDate();
+            LocalDateTime last = orderRepository.findMaxOrderDate();
+            long monthCount = 0;
+            if (first != null) {
+                // One calendar month per query keeps each aggregation bounded
+                LocalDateTime monthStart = first.toLocalDate().withDayOfMonth(1).atStartOfDay();
+                while (!monthStart.isAfter(last)) {
+                    LocalDateTime to = monthStart.plusMonths(1);
+                    rollupJdbcRepository.addDailySales(RollupJdbcRepository.DAILY_SALES_REBUILD,
+                            rollupJdbcRepository.aggregateDailySales(monthStart, to, CANCELLED_STATUS));
+                    monthStart = to;
+                    monthCount++;
+                }
+            }
+
+            // Subtract the rollup as of the same snapshot, leaving the correction per row
+            long afterId = 0;
+            while (true) {
+                List<DailySales> current = rollupJdbcRepository.findDailySales(
+                        RollupJdbcRepository.DAILY_SALES, afterId, backfillChunkSize);
+                if (current.isEmpty()) {
+                    break;
+                }
+                List<DailySalesDelta> rows = new ArrayList<>(current.size());
+                for (DailySales row : current) {
+                    rows.add(new DailySalesDelta(row.getSalesDate(), row.getCategoryId(),
+                            -row.getOrderCount(), -row.getUnits(), row.getRevenue().negate()));
+                }
+                rollupJdbcRepository.addDailySales(RollupJdbcRepository.DAILY_SALES_REBUILD, rows);
+                afterId = current.get(current.size() - 1).getId();
+            }
+            return monthCount;
+        });
+
+        long corrected = transactionTemplate.execute(status -> {
+            long rowCount = 0;
+            long afterId = 0;
+            while (true) {
+                List<DailySales> corrections = rollupJdbcRepository.findDailySales(
+                        RollupJdbcRepository.DAILY_SALES_REBUILD, afterId, backfillChunkSize);
+                if (corrections.isEmpty()) {
+                    break;
+                }
+                List<DailySalesDelta> rows = new ArrayList<>(corrections.size());
+                for (DailySales row : corrections) {
+                    if (row.getOrderCount() != 0 || row.getUnits() != 0 || row.getRevenue().signum() != 0) {
+                        rows.add(new DailySalesDelta(row.getSalesDate(), row.getCategoryId(),
+                                row.getOrderCount(), row.getUnits(), row.getRevenue()));
+                    }
+                }
+                rollupJdbcRepository.addDailySales(rows);
+                rowCount += rows.size();
+                afterId = corrections.get(corrections.size() - 1).getId();
+            }
+            rollupJdbcRepository.deleteAll(RollupJdbcRepository.DAILY_SALES_REBUILD);
+            return rowCount;
+        });
+
+        log.info("Rebuilt daily revenue rollups for {} months, {} rows corrected", months, corrected);
+        return months;
+    }
+
+    public RevenueReportDTO getRevenueReport(LocalDate from, LocalDate to) {
+        List<DailySales> rows = dailySalesRepository.findBySalesDateBetweenOrderBySalesDateAscCategoryIdAsc(from, to);
+
+        RevenueReportDTO report = new RevenueReportDTO();
+        report.setFrom(from);
+        report.setTo(to);
+        report.setRevenue(BigDecimal.ZERO);
+        for (DailySales row : rows) {
+            if (row.getCategoryId() == DailySales.ALL_CATEGORIES) {
+                report.setOrderCount(report.getOrderCount() + row.getOrderCount());
+                report.setUnits(report.getUnits() + row.getUnits());
+                report.setRevenue(report.getRevenue().add(row.getRevenue()));
+            }
+        }
+        report.setRows(rows);
+        return report;
+    }
+
+    public SalesVelocityDTO getVelocity(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new RuntimeException("Product not found"));
+
+        LocalDate today = LocalDate.now();
+        LocalDate shortFrom = today.minusDays(shortWindowDays - 1);
+        LocalDate longFrom = today.minusDays(longWindowDays - 1);
+
+        long shortUnits = 0;
+        long longUnits = 0;
+        for (ProductDailySales day : productDailySalesRepository
+                .findByProductIdAndSalesDateGreaterThanEqualOrderBySalesDate(productId, longFrom)) {
+            longUnits += day.getQuantity();
+            if (!day.getSalesDate().isBefore(shortFrom)) {
+                shortUnits += day.getQuantity();
+            }
+        }
+        return toVelocity(productId, product.getIsim(), product.getStok(), shortUnits, longUnits);
+    }
+
+    public List<SalesVelocityDTO> getReorderSuggestions(int limit) {
+        LocalDate today = LocalDate.now();
+        Map<Long, Long> longUnits = toMap(productDailySalesRepository.sumQuantitySince(today.minusDays(longWindowDays - 1)));
+        Map<Long, Long> shortUnits = toMap(productDailySalesRepository.sumQuantitySince(today.minusDays(shortWindowDays - 1)));
+        Map<Long, ProductDTO> products = productJdbcRepository.findStockLevels(longUnits.keySet());
+
+        List<SalesVelocityDTO> suggestions = new ArrayList<>();
+        for (ProductDTO product : products.values()) {
+            SalesVelocityDTO velocity = toVelocity(product.getId(), product.getIsim(), product.getStok(),
+                    shortUnits.getOrDefault(product.getId(), 0L), longUnits.getOrDefault(product.getId(), 0L));
+            if (velocity.getSuggestedReorderQuantity() > 0) {
+                suggestions.add(velocity);
+            }
+        }
+        suggestions.sort(Comparator.comparing(SalesVelocityDTO::getDaysOfStockLeft));
+        return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+    }
+
+    private SalesVelocityDTO toVelocity(Long productId, String isim, int stok, long shortUnits, long longUnits) {
+        SalesVelocityDTO dto = new SalesVelocityDTO();
+        dto.setProductId(productId);
+        dto.setIsim(isim);
+        dto.setStok(stok);
+        dto.setShortWindowDays(shortWindowDays);
+        dto.setLongWindowDays(longWindowDays);
+        dto.setUnitsSoldShortWindow(shortUnits);
+        dto.setUnitsSoldLongWindow(longUnits);
+        dto.setAverageDailyShortWindow((double) shortUnits / shortWindowDays);
+        dto.setAverageDailyLongWindow((double) longUnits / longWindowDays);
+
+        // Plan against whichever window shows the higher demand so rising sales are not missed
+        double dailyDemand = Math.max(dto.getAverageDailyShortWindow(), dto.getAverageDailyLongWindow());
+        if (dailyDemand > 0) {
+            dto.setDaysOfStockLeft(stok / dailyDemand);
+            int target = (int) Math.ceil(dailyDemand * (leadTimeDays + coverDays));
+            dto.setSuggestedReorderQuantity(Math.max(0, target - stok));
+        }
+        return dto;
+    }
+
+    private Map<Long, Long> toMap(List<ProductDailySalesRepository.ProductQuantity> rows) {
+        Map<Long, Long> map = new HashMap<>(rows.size() * 2);
+        for (ProductDailySalesRepository.ProductQuantity row : rows) {
+            map.put(row.getProductId(), row.getQuantity());
+        }
+        return map;
+    }
+
+    private TransactionTemplate snapshotTransaction() {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return snapshot;
+    }
+
+    private record SalesKey(Long productId, LocalDate salesDate) {
+    }
+
+    private static class CategoryTotals {
+        private int units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        void add(int quantity, BigDecimal lineTotal) {
+            units += quantity;
+            revenue = revenue.add(lineTotal);
+        }
+    }
+}
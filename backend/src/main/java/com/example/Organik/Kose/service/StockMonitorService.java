@@ -0,0 +1,254 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.dto.LowStockItem;
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.dto.ProductBulkUpdateItem;
+import com.example.Organik.Kose.dto.ProductDTO;
+import com.example.Organik.Kose.event.CacheInvalidationEvent;
+import com.example.Organik.Kose.event.LowStockEvent;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.repository.ProductJdbcRepository;
+import com.example.Organik.Kose.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps the set of low-stock products in memory. Every stock change is evaluated against the
+ * product's threshold as it happens, so the database is only scanned once at startup. A full
+ * reload builds a new index and swaps it in, so readers never see it half filled.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StockMonitorService {
+
+    private static final Comparator<LowStockItem> BY_STOCK = Comparator
+            .comparing(LowStockItem::getStok)
+            .thenComparing(LowStockItem::getProductId);
+
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Index index = new Index();
+
+    @Value("${app.stock.default-threshold:5}")
+    private int defaultThreshold;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Index loaded = new Index();
+        for (Product product : productRepository.findByStokEsigiIsNotNull()) {
+            loaded.thresholds.put(product.getId(), product.getStokEsigi());
+        }
+        for (Product product : productRepository.findLowStock(defaultThreshold)) {
+            evaluate(loaded, product.getId(), product.getIsim(), product.getStok(), false);
+        }
+        index = loaded;
+    }
+
+    /**
+     * Re-reads the stock of products written through JDBC, such as an import. Thresholds are
+     * not touched, since those writes do not change them.
+     */
+    public void refresh(Collection<Long> productIds) {
+        List<Long> ids = new ArrayList<>(productIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + REFRESH_CHUNK_SIZE));
+            Map<Long, ProductDTO> rows = productJdbcRepository.findStockStates(chunk);
+            for (Long productId : chunk) {
+                ProductDTO row = rows.get(productId);
+                if (row == null || !row.getAktif()) {
+                    remove(productId);
+                } else {
+                    evaluate(index, productId, row.getIsim(), row.getStok(), false);
+                }
+            }
+        }
+    }
+
+    public List<LowStockItem> getLowStockProducts(int limit) {
+        NavigableSet<LowStockItem> lowStock = index.lowStock;
+        List<LowStockItem> items = new ArrayList<>(Math.min(limit, lowStock.size()));
+        for (LowStockItem item : lowStock) {
+            if (items.size() >= limit) {
+                break;
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    public void recordStockChange(Product product) {
+        Long productId = product.getId();
+        String isim = product.getIsim();
+        int stok = product.getStok();
+        Integer stokEsigi = product.getStokEsigi();
+        boolean aktif = product.getAktif();
+
+        afterCommit(() -> {
+            Index current = index;
+            if (stokEsigi != null) {
+                current.thresholds.put(productId, stokEsigi);
+            } else {
+                current.thresholds.remove(productId);
+            }
+            if (aktif) {
+                evaluate(current, productId, isim, stok, true);
+            } else {
+                remove(productId);
+            }
+        });
+    }
+
+    /**
+     * {@code counts} are the per-item JDBC update counts; items that matched no row are skipped.
+     * Must run in the transaction that applied the updates, so the rows read here are the
+     * updated ones.
+     */
+    public void recordBulkStockChanges(List<ProductBulkUpdateItem> items, int[] counts) {
+        Index current = index;
+        List<ProductBulkUpdateItem> changed = new ArrayList<>();
+        Set<Long> lookup = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            ProductBulkUpdateItem item = items.get(i);
+            if (counts[i] == 0 || (item.getStok() == null && item.getAktif() == null)) {
+                continue;
+            }
+            changed.add(item);
+            Long productId = item.getProductId();
+            // Reactivated without a stock level, or entering the low set: read name, stock and aktif
+            // as updated. Batched drivers may report SUCCESS_NO_INFO, so a missing row also means not found.
+            if ((Boolean.TRUE.equals(item.getAktif()) && item.getStok() == null)
+                    || (!Boolean.FALSE.equals(item.getAktif()) && item.getStok() != null
+                    && item.getStok() <= current.thresholdFor(productId, defaultThreshold)
+                    && !current.lowByProduct.containsKey(productId))) {
+                lookup.add(productId);
+            }
+        }
+        Map<Long, ProductDTO> rows = productJdbcRepository.findStockStates(lookup);
+
+        afterCommit(() -> {
+            for (ProductBulkUpdateItem item : changed) {
+                Long productId = item.getProductId();
+                ProductDTO row = rows.get(productId);
+                if (Boolean.FALSE.equals(item.getAktif()) || row != null && !row.getAktif()) {
+                    remove(productId);
+                } else if (lookup.contains(productId) && row == null) {
+                    continue;
+                } else if (item.getStok() != null) {
+                    evaluate(index, productId, row != null ? row.getIsim() : null, item.getStok(), true);
+                } else if (row != null) {
+                    evaluate(index, productId, row.getIsim(), row.getStok(), true);
+                }
+            }
+        });
+    }
+
+    // Stock changed on another instance; the alert was already raised there
+    @EventListener(condition = "!#event.local")
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (!event.isFor(CacheInvalidationBus.PRODUCT)) {
+            return;
+        }
+        if (event.getId() == null) {
+            reload();
+            return;
+        }
+        Index current = index;
+        Product product = productRepository.findById(event.getId()).orElse(null);
+        if (product == null || !product.getAktif()) {
+            current.thresholds.remove(event.getId());
+            remove(event.getId());
+            return;
+        }
+        if (product.getStokEsigi() != null) {
+            current.thresholds.put(product.getId(), product.getStokEsigi());
+        } else {
+            current.thresholds.remove(product.getId());
+        }
+        evaluate(current, product.getId(), product.getIsim(), product.getStok(), false);
+    }
+
+    public void remove(Long productId) {
+        Index current = index;
+        current.lowByProduct.computeIfPresent(productId, (id, item) -> {
+            current.lowStock.remove(item);
+            return null;
+        });
+    }
+
+    private void evaluate(Index target, Long productId, String isim, int stok, boolean alert) {
+        int threshold = target.thresholdFor(productId, defaultThreshold);
+        LowStockItem[] entered = new LowStockItem[1];
+
+        target.lowByProduct.compute(productId, (id, current) -> {
+            if (current != null) {
+                target.lowStock.remove(current);
+            }
+            if (stok > threshold) {
+                return null;
+            }
+            LowStockItem item = new LowStockItem(id,
+                    isim != null ? isim : current != null ? current.getIsim() : null,
+                    stok, threshold,
+                    current != null ? current.getSince() : LocalDateTime.now());
+            target.lowStock.add(item);
+            if (current == null) {
+                entered[0] = item;
+            }
+            return item;
+        });
+
+        if (alert && entered[0] != null) {
+            LowStockItem item = entered[0];
+            log.warn("Product {} ({}) is low on stock: {} <= {}", productId, item.getIsim(), stok, threshold);
+            eventPublisher.publishEvent(new LowStockEvent(productId, item.getIsim(), stok, threshold));
+        }
+    }
+
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Index {
+        private final Map<Long, Integer> thresholds = new ConcurrentHashMap<>();
+        private final Map<Long, LowStockItem> lowByProduct = new ConcurrentHashMap<>();
+        private final NavigableSet<LowStockItem> lowStock = new ConcurrentSkipListSet<>(BY_STOCK);
+
+        int thresholdFor(Long productId, int defaultThreshold) {
+            return thresholds.getOrDefault(productId, defaultThreshold);
+        }
+    }
+}
@@ -2,23 +2,40 @@ package com.example.Organik.Kose.service;
 import com.example.Organik.Kose.dto.AuthResponse;
 import com.example.Organik.Kose.dto.LoginRequest;
 import com.example.Organik.Kose.dto.RegisterRequest;
+import com.example.Organik.Kose.dto.UserSummary;
 import com.example.Organik.Kose.model.User;
 import com.example.Organik.Kose.repository.UserRepository;
 import com.example.Organik.Kose.util.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
-@RequiredArgsConstructor
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordHashingService passwordHashingService;
+    private final UserSummaryCache userSummaryCache;
+    private final AsyncTaskExecutor taskExecutor;
+
+    // The hashing pool only hashes: database work after a hash continues on the application
+    // task executor, so a slow query cannot hold one of the few password-hash- threads
+    public UserService(UserRepository userRepository, JwtUtil jwtUtil, PasswordHashingService passwordHashingService,
+                       UserSummaryCache userSummaryCache,
+                       @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor) {
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.passwordHashingService = passwordHashingService;
+        this.userSummaryCache = userSummaryCache;
+        this.taskExecutor = taskExecutor;
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -26,38 +43,49 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
     }
 
-    public AuthResponse login(LoginRequest request) {
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Simple password check (replace with proper authentication later)
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid credentials");
-        }
+        return passwordHashingService.verify(request.getPassword(), user.getPassword())
+                .thenApplyAsync(verification -> {
+                    if (!verification.matches()) {
+                        throw new RuntimeException("Invalid credentials");
+                    }
+                    // Hash made with an older encoding or a lower work factor
+                    if (verification.upgradedHash() != null) {
+                        userRepository.updatePassword(user.getId(), verification.upgradedHash());
+                    }
 
-        String token = jwtUtil.generateToken(user);
+                    userSummaryCache.put(UserSummary.of(user));
+                    String token = jwtUtil.generateToken(user);
 
-        return new AuthResponse(token, user.getId(), user.getEmail(), user.getName(), user.getRole().name());
+                    return new AuthResponse(token, user.getId(), user.getEmail(), user.getName(), user.getRole().name());
+                }, taskExecutor);
     }
 
-    public AuthResponse register(RegisterRequest request) {
+    public CompletableFuture<AuthResponse> register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
 
-        User user = new User();
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setName(request.getName());
-        user.setPhone(request.getPhone());
-        user.setAddress(request.getAddress());
-        user.setRole(User.Role.USER);
+        return passwordHashingService.encode(request.getPassword())
+                .thenApplyAsync(passwordHash -> {
+                    User user = new User();
+                    user.setEmail(request.getEmail());
+                    user.setPassword(passwordHash);
+                    user.setName(request.getName());
+                    user.setPhone(request.getPhone());
+                    user.setAddress(request.getAddress());
+                    user.setRole(User.Role.USER);
 
-        user = userRepository.save(user);
+                    user = userRepository.save(user);
+                    userSummaryCache.put(UserSummary.of(user));
 
-        String token = jwtUtil.generateToken(user);
+                    String token = jwtUtil.generateToken(user);
 
-        return new AuthResponse(token, user.getId(), user.getEmail(), user.getName(), user.getRole().name());
+                    return new AuthResponse(token, user.getId(), user.getEmail(), user.getName(), user.getRole().name());
+                }, taskExecutor);
     }
 
     public User findByEmail(String email) {
@@ -0,0 +1,88 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.cache.CacheInvalidationBus;
+import com.example.Organik.Kose.dto.UserSummary;
+import com.example.Organik.Kose.event.CacheInvalidationEvent;
+import com.example.Organik.Kose.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded id -> {@link UserSummary} cache so cart and order calls can confirm the caller and
+ * show their name without loading the full User row. Filled at login and registration, loaded
+ * on a miss, and dropped on every instance when a user row changes (published by
+ * {@link com.example.Organik.Kose.cache.UserInvalidationListener}). Entries expire after ttl-ms
+ * so changes made outside the application are picked up eventually.
+ */
+@Component
+public class UserSummaryCache {
+
+    private final UserRepository userRepository;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.cache.user-summary.max-entries:50000}")
+    private long maxEntries;
+
+    @Value("${app.cache.user-summary.ttl-ms:600000}")
+    private long ttlMs;
+
+    public UserSummaryCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        Gauge.builder("shop.cache.user.summary.size", entries, ConcurrentHashMap::mappingCount)
+                .description("User summaries currently cached")
+                .register(meterRegistry);
+    }
+
+    public UserSummary get(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            return entry.summary;
+        }
+        UserSummary summary = userRepository.findSummaryById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        put(summary);
+        return summary;
+    }
+
+    public void put(UserSummary summary) {
+        if (entries.mappingCount() >= maxEntries && !entries.containsKey(summary.getId())) {
+            evictExpired();
+            if (entries.mappingCount() >= maxEntries) {
+                // Full of live entries: serve this user from the database rather than grow
+                return;
+            }
+        }
+        entries.put(summary.getId(), new Entry(summary, System.currentTimeMillis() + ttlMs));
+    }
+
+    public void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (!event.isFor(CacheInvalidationBus.USER)) {
+            return;
+        }
+        if (event.getId() == null) {
+            entries.clear();
+        } else {
+            evict(event.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.user-summary.evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    private record Entry(UserSummary summary, long expiresAt) {
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.Organik.Kose.util;
 
+import com.example.Organik.Kose.metrics.ShopMetrics;
 import com.example.Organik.Kose.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -16,8 +18,14 @@ import java.util.Map;
 import java.util.function.Function;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    // Request attribute holding the user id of a verified bearer token (set by RequestUserFilter)
+    public static final String USER_ID_ATTRIBUTE = "organikKose.userId";
+
+    private final ShopMetrics shopMetrics;
+
     @Value("${jwt.secret:organikKoseSecretKeyForJWTTokenGeneration}")
     private String secret;
 
@@ -46,11 +54,11 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
+        return shopMetrics.timeJwtVerify(() -> Jwts.parserBuilder()
                 .setSigningKey(getSigningKey())
                 .build()
                 .parseClaimsJws(token)
-                .getBody();
+                .getBody());
     }
 
     private Boolean isTokenExpired(String token) {
@@ -0,0 +1,73 @@
+-- Baseline schema, matching what the JPA mappings generated before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE categories (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(255) NOT NULL,
+    description TEXT,
+    icon        VARCHAR(255),
+    aktif       BIT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE users (
+    id         BIGINT               NOT NULL AUTO_INCREMENT,
+    email      VARCHAR(255)         NOT NULL,
+    password   VARCHAR(255)         NOT NULL,
+    name       VARCHAR(255)         NOT NULL,
+    phone      VARCHAR(255)         NOT NULL,
+    address    VARCHAR(255),
+    role       ENUM ('ADMIN','USER') NOT NULL,
+    enabled    BIT                  NOT NULL,
+    created_at DATETIME(6)          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE products (
+    id          BIGINT         NOT NULL AUTO_INCREMENT,
+    isim        VARCHAR(255)   NOT NULL,
+    fiyat       DECIMAL(10, 2) NOT NULL,
+    `açıklama`  TEXT,
+    resim_url   VARCHAR(255),
+    stok        INT            NOT NULL,
+    aktif       BIT            NOT NULL,
+    created_at  DATETIME(6)    NOT NULL,
+    updated_at  DATETIME(6),
+    kategori_id BIGINT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_products_category FOREIGN KEY (kategori_id) REFERENCES categories (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE cart_items (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity   INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_cart_items_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_cart_items_product FOREIGN KEY (product_id) REFERENCES products (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE orders (
+    id           BIGINT         NOT NULL AUTO_INCREMENT,
+    order_date   DATETIME(6)    NOT NULL,
+    total_amount DECIMAL(38, 2) NOT NULL,
+    status       VARCHAR(255)   NOT NULL,
+    user_id      BIGINT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_details (
+    id         BIGINT         NOT NULL AUTO_INCREMENT,
+    order_id   BIGINT         NOT NULL,
+    product_id BIGINT         NOT NULL,
+    quantity   INT            NOT NULL,
+    price      DECIMAL(38, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_details_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_details_product FOREIGN KEY (product_id) REFERENCES products (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,24 @@
+-- Per-product low-stock thresholds (StockMonitorService) and the daily sales rollups kept by
+-- SalesAnalyticsService. Databases baselined at V1 were created before these existed.
+
+ALTER TABLE products ADD COLUMN stok_esigi INT;
+
+CREATE TABLE product_daily_sales (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    product_id BIGINT NOT NULL,
+    sales_date DATE   NOT NULL,
+    quantity   INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_daily_sales UNIQUE (product_id, sales_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE daily_sales (
+    id          BIGINT         NOT NULL AUTO_INCREMENT,
+    sales_date  DATE           NOT NULL,
+    category_id BIGINT         NOT NULL,
+    order_count INT            NOT NULL,
+    units       INT            NOT NULL,
+    revenue     DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_sales UNIQUE (sales_date, category_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
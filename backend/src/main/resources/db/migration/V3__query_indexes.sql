@@ -0,0 +1,45 @@
+-- Composite indexes for the repository queries. Each index lists the equality columns first,
+-- then the range/sort column, so MySQL can both filter and return rows in order without a filesort.
+
+-- CartRepository.findByUserIdAndProductId / findByUserId / deleteByUserId.
+-- One row per (user, product): merge any duplicates left by concurrent adds before enforcing it.
+UPDATE cart_items c
+    JOIN (SELECT MIN(id) AS keep_id, SUM(quantity) AS total
+          FROM cart_items
+          GROUP BY user_id, product_id
+          HAVING COUNT(*) > 1) d ON c.id = d.keep_id
+SET c.quantity = d.total;
+
+DELETE c
+FROM cart_items c
+    JOIN (SELECT user_id, product_id, MIN(id) AS keep_id
+          FROM cart_items
+          GROUP BY user_id, product_id
+          HAVING COUNT(*) > 1) d
+         ON c.user_id = d.user_id AND c.product_id = d.product_id AND c.id <> d.keep_id;
+
+CREATE UNIQUE INDEX uk_cart_items_user_product ON cart_items (user_id, product_id);
+
+-- OrderRepository.findByUserIdOrderByOrderDateDesc
+CREATE INDEX idx_orders_user_date ON orders (user_id, order_date);
+
+-- OrderRepository.findByStatusOrderByOrderDateDesc / countByStatus
+CREATE INDEX idx_orders_status_date ON orders (status, order_date);
+
+-- OrderRepository.findByOrderDateBetween / findMinOrderDate / findMaxOrderDate, revenue rollup rebuilds
+CREATE INDEX idx_orders_date ON orders (order_date);
+
+-- ProductRepository.findByCategoryIdAndAktifTrue
+CREATE INDEX idx_products_category_aktif ON products (kategori_id, aktif);
+
+-- ProductRepository.findByAktifTrue / findLowStock, RecommendationJdbcRepository.findActiveProductCards
+CREATE INDEX idx_products_aktif_stok ON products (aktif, stok);
+
+-- RecommendationJdbcRepository.findBaskets reads (order_id, product_id) pairs in order_id order
+CREATE INDEX idx_order_details_order_product ON order_details (order_id, product_id);
+
+-- ProductDailySalesRepository.sumQuantitySince: range on sales_date, covering the summed column
+CREATE INDEX idx_product_daily_sales_date ON product_daily_sales (sales_date, product_id, quantity);
+
+-- CategoryRepository.findByAktifTrue
+CREATE INDEX idx_categories_aktif ON categories (aktif);
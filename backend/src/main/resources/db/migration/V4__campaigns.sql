@@ -0,0 +1,26 @@
+-- Campaign rules for PricingEngine, and the discount given on each order line.
+
+CREATE TABLE campaigns (
+    id               BIGINT                                 NOT NULL AUTO_INCREMENT,
+    isim             VARCHAR(255)                           NOT NULL,
+    tip              ENUM ('BUY_X_GET_Y','COUPON','PERCENT') NOT NULL,
+    indirim_orani    DECIMAL(5, 2),
+    al_adet          INT,
+    bedava_adet      INT,
+    urun_id          BIGINT,
+    kategori_id      BIGINT,
+    kupon_kodu       VARCHAR(255),
+    min_sepet_tutari DECIMAL(10, 2),
+    baslangic        DATETIME(6),
+    bitis            DATETIME(6),
+    aktif            BIT                                    NOT NULL,
+    created_at       DATETIME(6)                            NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_campaigns_kupon_kodu UNIQUE (kupon_kodu)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- CampaignRepository.findActiveOrUpcoming
+CREATE INDEX idx_campaigns_aktif_bitis ON campaigns (aktif, bitis);
+
+-- Revenue is price * quantity - indirim; existing lines had no discount
+ALTER TABLE order_details ADD COLUMN indirim DECIMAL(38, 2) NOT NULL DEFAULT 0;
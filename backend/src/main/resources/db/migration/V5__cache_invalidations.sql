@@ -0,0 +1,16 @@
+-- Change feed for JdbcInvalidationTransport (app.cache.invalidation.transport=jdbc).
+-- Rows are short-lived: every instance polls by id (the primary key) and rows older than the
+-- retention period are pruned.
+
+CREATE TABLE cache_invalidations (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    entity     VARCHAR(32)  NOT NULL,
+    entity_id  BIGINT,
+    version    BIGINT       NOT NULL,
+    origin     VARCHAR(64)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- Serves only the pruning delete; polling never reads created_at
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations (created_at);
@@ -0,0 +1,11 @@
+-- Staging table for SalesAnalyticsService.rebuildSalesRollups: the rebuild collects the
+-- correction for every product_daily_sales row here, then adds them to the live table at once.
+
+CREATE TABLE product_daily_sales_rebuild (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    product_id BIGINT NOT NULL,
+    sales_date DATE   NOT NULL,
+    quantity   INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_daily_sales_rebuild UNIQUE (product_id, sales_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
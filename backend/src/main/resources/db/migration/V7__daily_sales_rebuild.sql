@@ -0,0 +1,12 @@
+-- Staging table for SalesAnalyticsService.rebuildRevenueRollups, used like product_daily_sales_rebuild.
+
+CREATE TABLE daily_sales_rebuild (
+    id          BIGINT         NOT NULL AUTO_INCREMENT,
+    sales_date  DATE           NOT NULL,
+    category_id BIGINT         NOT NULL,
+    order_count INT            NOT NULL,
+    units       INT            NOT NULL,
+    revenue     DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_sales_rebuild UNIQUE (sales_date, category_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
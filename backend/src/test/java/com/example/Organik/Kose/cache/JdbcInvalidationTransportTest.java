@@ -0,0 +1,105 @@
+package com.example.Organik.Kose.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two transports on one embedded database, as two instances would share the MySQL table:
+ * whatever one node publishes, the other must receive exactly once.
+ */
+class JdbcInvalidationTransportTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcInvalidationTransport publisher;
+    private JdbcInvalidationTransport subscriber;
+    private final List<InvalidationMessage> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:invalidations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V5__cache_invalidations.sql")).execute(dataSource);
+
+        publisher = transport();
+        subscriber = transport();
+        publisher.start(message -> { });
+        subscriber.start(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP TABLE cache_invalidations");
+    }
+
+    @Test
+    void burstLargerThanBatchSizeConvergesInOnePoll() {
+        publisher.publish(messages(1, 35));
+
+        subscriber.poll();
+
+        assertThat(received).extracting(InvalidationMessage::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 35).boxed().toList());
+    }
+
+    @Test
+    void laterPollsOnlyDeliverNewMessages() {
+        publisher.publish(messages(1, 25));
+        subscriber.poll();
+        publisher.publish(messages(26, 30));
+        subscriber.poll();
+        subscriber.poll();
+
+        assertThat(received).hasSize(30);
+        assertThat(received.get(25).id()).isEqualTo(26L);
+    }
+
+    @Test
+    void lowerIdCommittedAfterHigherIdIsStillDelivered() throws Exception {
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            try (PreparedStatement insert = slow.prepareStatement(
+                    "INSERT INTO cache_invalidations (entity, entity_id, version, origin) VALUES ('product', 1, 1, 'a')")) {
+                insert.executeUpdate();
+            }
+            publisher.publish(messages(2, 2));
+
+            subscriber.poll();
+            assertThat(received).extracting(InvalidationMessage::id).containsExactly(2L);
+
+            slow.commit();
+        }
+        subscriber.poll();
+        subscriber.poll();
+
+        assertThat(received).extracting(InvalidationMessage::id).containsExactly(2L, 1L);
+    }
+
+    private JdbcInvalidationTransport transport() {
+        JdbcInvalidationTransport transport = new JdbcInvalidationTransport(new JdbcTemplate(dataSource));
+        ReflectionTestUtils.setField(transport, "graceMs", 5000L);
+        ReflectionTestUtils.setField(transport, "batchSize", BATCH_SIZE);
+        return transport;
+    }
+
+    private static List<InvalidationMessage> messages(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new InvalidationMessage(CacheInvalidationBus.PRODUCT, id, 1, "a"))
+                .toList();
+    }
+}
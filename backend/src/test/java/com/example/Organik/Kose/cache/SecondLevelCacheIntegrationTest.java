@@ -0,0 +1,220 @@
+package com.example.Organik.Kose.cache;
+
+import com.example.Organik.Kose.dto.LowStockItem;
+import com.example.Organik.Kose.dto.ProductBulkUpdateItem;
+import com.example.Organik.Kose.event.CacheInvalidationEvent;
+import com.example.Organik.Kose.model.Category;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.model.User;
+import com.example.Organik.Kose.repository.CategoryRepository;
+import com.example.Organik.Kose.repository.ProductRepository;
+import com.example.Organik.Kose.repository.UserRepository;
+import com.example.Organik.Kose.service.CartService;
+import com.example.Organik.Kose.service.OrderService;
+import com.example.Organik.Kose.service.ProductImportExportService;
+import com.example.Organik.Kose.service.ProductService;
+import com.example.Organik.Kose.service.StockMonitorService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application on H2 and checks the second-level cache end to end: repeated product
+ * reads are served without SQL, and every write path that changes stock (checkout through JPA,
+ * bulk update and import through JDBC) is visible to the next cached read. A change committed
+ * by another instance is simulated with a direct JDBC write and a remote invalidation event.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductImportExportService productImportExportService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StockMonitorService stockMonitorService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CachedOnInvalidation cachedOnInvalidation;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Category category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        category = new Category();
+        category.setName("Kategori " + UUID.randomUUID());
+        category = categoryRepository.save(category);
+
+        product = new Product();
+        product.setIsim("Urun " + UUID.randomUUID());
+        product.setFiyat(new BigDecimal("10.00"));
+        product.setStok(50);
+        product.setCategory(category);
+        product = productRepository.save(product);
+    }
+
+    @Test
+    void repeatedFindByIdIssuesNoSql() {
+        productService.getProductById(product.getId());
+
+        statistics.clear();
+        assertThat(productService.getProductById(product.getId()).getIsim()).isEqualTo(product.getIsim());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void checkoutIsVisibleToCachedReads() {
+        Long userId = createUser();
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(50);
+
+        cartService.addToCart(userId, product.getId(), 3);
+        orderService.createOrderFromCart(userId, null);
+
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(47);
+    }
+
+    @Test
+    void bulkUpdateIsVisibleToCachedReads() {
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(50);
+
+        ProductBulkUpdateItem item = new ProductBulkUpdateItem();
+        item.setProductId(product.getId());
+        item.setStok(7);
+        productService.bulkUpdate(List.of(item));
+
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(7);
+    }
+
+    @Test
+    void importIsVisibleToCachedReads() throws Exception {
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(50);
+
+        String csv = "id,isim,fiyat,stok,aktif,categoryId\n"
+                + product.getId() + "," + product.getIsim() + ",12.50,21,true," + category.getId() + "\n";
+        productImportExportService.importProducts(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ProductImportExportService.Format.CSV);
+
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(21);
+        assertThat(productService.getProductById(product.getId()).getFiyat()).isEqualByComparingTo("12.50");
+    }
+
+    @Test
+    void importRefreshesLowStockOfImportedRows() throws Exception {
+        String name = "Yeni " + UUID.randomUUID();
+        String csv = "id,isim,fiyat,stok,aktif,categoryId\n"
+                + product.getId() + "," + product.getIsim() + ",10.00,1,true," + category.getId() + "\n"
+                + "," + name + ",5.00,2,true," + category.getId() + "\n";
+        productImportExportService.importProducts(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ProductImportExportService.Format.CSV);
+
+        List<LowStockItem> lowStock = stockMonitorService.getLowStockProducts(Integer.MAX_VALUE);
+        assertThat(lowStock).filteredOn(item -> item.getProductId().equals(product.getId()))
+                .extracting(LowStockItem::getStok).containsExactly(1);
+        assertThat(lowStock).filteredOn(item -> name.equals(item.getIsim()))
+                .extracting(LowStockItem::getStok).containsExactly(2);
+    }
+
+    @Test
+    void remoteChangeIsSeenByStockMonitor() {
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(50);
+
+        jdbcTemplate.update("UPDATE products SET stok = 2 WHERE id = ?", product.getId());
+        eventPublisher.publishEvent(new CacheInvalidationEvent(CacheInvalidationBus.PRODUCT, product.getId(), 0, false));
+
+        // Any listener reloading the product must find the entry already evicted
+        assertThat(cachedOnInvalidation.seen).containsExactly(false);
+        assertThat(stockMonitorService.getLowStockProducts(Integer.MAX_VALUE))
+                .filteredOn(item -> item.getProductId().equals(product.getId()))
+                .extracting(LowStockItem::getStok)
+                .containsExactly(2);
+        assertThat(productService.getProductById(product.getId()).getStok()).isEqualTo(2);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        CachedOnInvalidation cachedOnInvalidation(EntityManagerFactory entityManagerFactory) {
+            return new CachedOnInvalidation(entityManagerFactory);
+        }
+    }
+
+    static class CachedOnInvalidation {
+
+        private final EntityManagerFactory entityManagerFactory;
+        private final List<Boolean> seen = new ArrayList<>();
+
+        CachedOnInvalidation(EntityManagerFactory entityManagerFactory) {
+            this.entityManagerFactory = entityManagerFactory;
+        }
+
+        @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+        @EventListener(condition = "!#event.local")
+        public void onInvalidation(CacheInvalidationEvent event) {
+            seen.add(entityManagerFactory.getCache().contains(Product.class, event.getId()));
+        }
+    }
+
+    private Long createUser() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@test.local");
+        user.setPassword("{noop}unused");
+        user.setName("Test");
+        user.setPhone("0");
+        return userRepository.save(user).getId();
+    }
+}
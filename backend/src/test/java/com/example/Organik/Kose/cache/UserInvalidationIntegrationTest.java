@@ -0,0 +1,71 @@
+package com.example.Organik.Kose.cache;
+
+import com.example.Organik.Kose.event.CacheInvalidationEvent;
+import com.example.Organik.Kose.metrics.ShopMetrics;
+import com.example.Organik.Kose.model.User;
+import com.example.Organik.Kose.repository.UserRepository;
+import com.example.Organik.Kose.service.UserSummaryCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The application context is one node; a second node with its own bus and user summary cache
+ * shares the database and the in-JVM transport. A user updated on the first node must not be
+ * served stale from the second node's cache.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserInvalidationIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private LocalInvalidationTransport otherTransport;
+    private UserSummaryCache otherCache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        otherCache = new UserSummaryCache(userRepository, registry);
+        ReflectionTestUtils.setField(otherCache, "maxEntries", 1000L);
+        ReflectionTestUtils.setField(otherCache, "ttlMs", 600_000L);
+
+        otherTransport = new LocalInvalidationTransport();
+        CacheInvalidationBus otherBus = new CacheInvalidationBus(otherTransport,
+                event -> otherCache.onInvalidation((CacheInvalidationEvent) event), new ShopMetrics(registry), "other");
+        otherBus.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherTransport.stop();
+    }
+
+    @Test
+    void updateEvictsSummaryOnOtherNode() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@test.local");
+        user.setPassword("{noop}unused");
+        user.setName("Eski");
+        user.setPhone("0");
+        user = userRepository.save(user);
+        assertThat(otherCache.get(user.getId()).getName()).isEqualTo("Eski");
+
+        user.setName("Yeni");
+        user.setRole(User.Role.ADMIN);
+        userRepository.save(user);
+
+        assertThat(otherCache.get(user.getId()).getName()).isEqualTo("Yeni");
+        assertThat(otherCache.get(user.getId()).getRole()).isEqualTo(User.Role.ADMIN);
+    }
+}
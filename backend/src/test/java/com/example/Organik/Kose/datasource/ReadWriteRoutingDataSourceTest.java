@@ -0,0 +1,145 @@
+package com.example.Organik.Kose.datasource;
+
+import com.example.Organik.Kose.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Wires the routing data source the way DataSourceRoutingConfig does, over two embedded
+ * databases that each know their own name, and checks which one a transaction lands on.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private SingleConnectionDataSource primary;
+    private SingleConnectionDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isHealthy()).thenReturn(true);
+        tracker = new ReadYourWritesTracker();
+        ReflectionTestUtils.setField(tracker, "stickyMs", 10000L);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, tracker);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        primary.destroy();
+        replica.destroy();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(currentDatabase(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void statementOutsideTransactionUsesPrimary() {
+        assertThat(jdbc.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        when(lagMonitor.isHealthy()).thenReturn(false);
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void failedLagCheckMarksReplicaUnhealthy() {
+        // H2 has no SHOW REPLICA STATUS, like a replica that cannot be queried
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, 5);
+        monitor.check();
+
+        assertThat(monitor.isHealthy()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    void userWhoJustWroteReadsFromPrimary() {
+        bindRequestUser(7L);
+        tracker.markWrite(7L);
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void otherUsersStillReadFromReplica() {
+        tracker.markWrite(7L);
+        bindRequestUser(8L);
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void pinExpiresAfterStickyWindow() {
+        ReflectionTestUtils.setField(tracker, "stickyMs", -1L);
+        bindRequestUser(7L);
+        tracker.markWrite(7L);
+
+        assertThat(currentDatabase(readOnly)).isEqualTo("replica");
+    }
+
+    private String currentDatabase(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static void bindRequestUser(Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtUtil.USER_ID_ATTRIBUTE, userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static SingleConnectionDataSource database(String name) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.Organik.Kose.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the embedded Tomcat and calls it from loopback, a trusted proxy: anonymous callers must be
+ * limited by the X-Forwarded-For client address, not by the proxy's address they all share.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.rate-limit.default.capacity=2",
+        "app.rate-limit.default.refill-per-second=0.01"
+})
+@ActiveProfiles("test")
+class RateLimitForwardedForTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void anonymousCallersAreLimitedByForwardedAddress() {
+        assertThat(get("203.0.113.10").is2xxSuccessful()).isTrue();
+        assertThat(get("203.0.113.10").is2xxSuccessful()).isTrue();
+        assertThat(get("203.0.113.10")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(get("203.0.113.20").is2xxSuccessful()).isTrue();
+    }
+
+    private HttpStatusCode get(String clientAddress) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", clientAddress);
+        return restTemplate.exchange("/api/categories", HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                .getStatusCode();
+    }
+}
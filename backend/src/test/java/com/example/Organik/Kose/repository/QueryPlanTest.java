@@ -0,0 +1,159 @@
+package com.example.Organik.Kose.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies the Flyway migrations to H2 in MySQL mode and checks with EXPLAIN that each
+ * repository query is answered from the index added for it.
+ *
+ * H2 cannot check everything MySQL does:
+ * <ul>
+ *   <li>the multi-table UPDATE/DELETE statements that merge duplicate cart rows before the
+ *       unique index is created are MySQL-only and skipped (the table is empty here);</li>
+ *   <li>H2 keeps a separate index for every foreign key, where MySQL reuses a composite index
+ *       that starts with the key column, so user_id lookups may pick H2's own index;</li>
+ *   <li>H2 never reports "index sorted" behind an equality prefix, so avoiding the filesort on
+ *       ORDER BY order_date is asserted through the index column order instead.</li>
+ * </ul>
+ * The plans prove each index is usable for its query, not MySQL's exact choice.
+ */
+class QueryPlanTest {
+
+    private static final Pattern VERSION = Pattern.compile("V(\\d+)__.*");
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrate() throws IOException {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:queryplan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbc = new JdbcTemplate(dataSource);
+
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+        Arrays.sort(migrations, Comparator.comparingInt(QueryPlanTest::version));
+        for (Resource migration : migrations) {
+            for (String statement : statements(migration)) {
+                // MySQL-only data fixes (UPDATE ... JOIN, DELETE alias FROM ... JOIN)
+                if (statement.startsWith("UPDATE") || statement.startsWith("DELETE")) {
+                    continue;
+                }
+                jdbc.execute(statement);
+            }
+        }
+    }
+
+    @AfterAll
+    static void close() {
+        jdbc.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    void cartLookupUsesUniqueUserProductIndex() {
+        assertThat(explain("SELECT * FROM cart_items WHERE user_id = 1 AND product_id = 2"))
+                .contains("uk_cart_items_user_product");
+    }
+
+    @Test
+    void cartByUserUsesUserIndex() {
+        assertThat(explain("SELECT * FROM cart_items WHERE user_id = 1"))
+                .contains(": user_id = ")
+                .doesNotContain("tablescan");
+        assertThat(indexColumns("uk_cart_items_user_product")).containsExactly("user_id", "product_id");
+    }
+
+    @Test
+    void userOrderHistoryIndexCoversFilterThenSort() {
+        assertThat(explain("SELECT * FROM orders WHERE user_id = 1 ORDER BY order_date DESC"))
+                .contains(": user_id = ")
+                .doesNotContain("tablescan");
+        assertThat(indexColumns("idx_orders_user_date")).containsExactly("user_id", "order_date");
+    }
+
+    @Test
+    void ordersByStatusUseStatusDateIndex() {
+        assertThat(explain("SELECT * FROM orders WHERE status = 'Kargoda' ORDER BY order_date DESC"))
+                .contains("idx_orders_status_date");
+        assertThat(indexColumns("idx_orders_status_date")).containsExactly("status", "order_date");
+    }
+
+    @Test
+    void ordersInDateRangeUseDateIndex() {
+        assertThat(explain("SELECT * FROM orders WHERE order_date BETWEEN '2024-01-01' AND '2024-02-01'"))
+                .contains("idx_orders_date");
+    }
+
+    @Test
+    void productsByCategoryUseCategoryAktifIndex() {
+        assertThat(explain("SELECT * FROM products WHERE kategori_id = 1 AND aktif = TRUE"))
+                .contains("idx_products_category_aktif");
+    }
+
+    @Test
+    void activeProductsUseAktifStockIndex() {
+        assertThat(explain("SELECT * FROM products WHERE aktif = TRUE AND stok <= 5"))
+                .contains("idx_products_aktif_stok");
+    }
+
+    @Test
+    void basketScanIsReadInOrderFromOrderProductIndex() {
+        assertThat(explain("SELECT DISTINCT order_id, product_id FROM order_details WHERE order_id <= 100 ORDER BY order_id"))
+                .contains("idx_order_details_order_product");
+    }
+
+    @Test
+    void dailySalesRangeIsCoveredByDateIndex() {
+        assertThat(explain("SELECT product_id, SUM(quantity) FROM product_daily_sales WHERE sales_date >= '2024-01-01' GROUP BY product_id"))
+                .contains("idx_product_daily_sales_date");
+    }
+
+    @Test
+    void activeCategoriesUseAktifIndex() {
+        assertThat(explain("SELECT * FROM categories WHERE aktif = TRUE"))
+                .contains("idx_categories_aktif");
+    }
+
+    @Test
+    void activeCampaignsUseAktifEndIndex() {
+        assertThat(explain("SELECT * FROM campaigns WHERE aktif = TRUE AND (bitis IS NULL OR bitis > CURRENT_TIMESTAMP)"))
+                .contains("idx_campaigns_aktif_bitis");
+    }
+
+    private static List<String> indexColumns(String index) {
+        return jdbc.queryForList("SELECT column_name FROM information_schema.index_columns " +
+                "WHERE index_name = ? ORDER BY ordinal_position", String.class, index);
+    }
+
+    private static String explain(String sql) {
+        return String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class)).toLowerCase();
+    }
+
+    private static int version(Resource migration) {
+        var matcher = VERSION.matcher(migration.getFilename());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : Integer.MAX_VALUE;
+    }
+
+    private static String[] statements(Resource migration) throws IOException {
+        String script = migration.getContentAsString(StandardCharsets.UTF_8).replaceAll("(?m)^\\s*--.*$", "");
+        return Arrays.stream(script.split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty())
+                .toArray(String[]::new);
+    }
+}
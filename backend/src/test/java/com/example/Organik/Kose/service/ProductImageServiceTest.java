@@ -0,0 +1,40 @@
+package com.example.Organik.Kose.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductImageServiceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reuploadRestoresMissingVariants() throws Exception {
+        ProductImageService service = new ProductImageService(dir.toString(), "thumb:20,card:48,large:120", "card", 0.8f, 1_000_000);
+        byte[] png = png(300, 200);
+
+        String url = service.store(new ByteArrayInputStream(png));
+        String key = url.substring(ProductImageService.URL_PREFIX.length(), url.lastIndexOf('/'));
+        // As if the first upload stopped after the default variant
+        Files.delete(dir.resolve(key).resolve("large.jpg"));
+
+        assertThat(service.store(new ByteArrayInputStream(png))).isEqualTo(url);
+        assertThat(service.resolve(key, "large", false)).isNotNull();
+        assertThat(ImageIO.read(service.resolve(key, "large", false).toFile()).getWidth()).isEqualTo(120);
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
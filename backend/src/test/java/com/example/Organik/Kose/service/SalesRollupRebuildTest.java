@@ -0,0 +1,134 @@
+package com.example.Organik.Kose.service;
+
+import com.example.Organik.Kose.model.Category;
+import com.example.Organik.Kose.model.Product;
+import com.example.Organik.Kose.model.User;
+import com.example.Organik.Kose.repository.CategoryRepository;
+import com.example.Organik.Kose.repository.ProductRepository;
+import com.example.Organik.Kose.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rebuilds the rollups over drifted rows and checks they end up matching the orders. The staging
+ * tables come from the Flyway migrations, which the test profile does not run.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SalesRollupRebuildTest {
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private Category category;
+    private Product product;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V6__product_daily_sales_rebuild.sql"),
+                new ClassPathResource("db/migration/V7__daily_sales_rebuild.sql")).execute(dataSource);
+
+        category = new Category();
+        category.setName("Kategori " + UUID.randomUUID());
+        category = categoryRepository.save(category);
+
+        product = new Product();
+        product.setIsim("Urun " + UUID.randomUUID());
+        product.setFiyat(new BigDecimal("10.00"));
+        product.setStok(50);
+        product.setCategory(category);
+        product = productRepository.save(product);
+
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@test.local");
+        user.setPassword("{noop}unused");
+        user.setName("Test");
+        user.setPhone("0");
+        userId = userRepository.save(user).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE product_daily_sales_rebuild");
+        jdbcTemplate.execute("DROP TABLE daily_sales_rebuild");
+    }
+
+    @Test
+    void salesRebuildCorrectsDriftedRows() {
+        cartService.addToCart(userId, product.getId(), 3);
+        orderService.createOrderFromCart(userId, null);
+        LocalDate today = LocalDate.now();
+
+        jdbcTemplate.update("UPDATE product_daily_sales SET quantity = 99 WHERE product_id = ?", product.getId());
+        jdbcTemplate.update("INSERT INTO product_daily_sales (product_id, sales_date, quantity) VALUES (?, ?, 5)",
+                product.getId(), Date.valueOf(today.minusDays(3)));
+
+        salesAnalyticsService.rebuildSalesRollups();
+
+        assertThat(quantity(today)).isEqualTo(3);
+        assertThat(quantity(today.minusDays(3))).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_daily_sales_rebuild", Long.class)).isZero();
+    }
+
+    @Test
+    void revenueRebuildCorrectsDriftedRows() {
+        cartService.addToCart(userId, product.getId(), 2);
+        orderService.createOrderFromCart(userId, null);
+        LocalDate today = LocalDate.now();
+
+        jdbcTemplate.update("UPDATE daily_sales SET order_count = 7, units = 70, revenue = 700 WHERE category_id = ?",
+                category.getId());
+
+        salesAnalyticsService.rebuildRevenueRollups();
+
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT order_count, units, revenue FROM daily_sales WHERE sales_date = ? AND category_id = ?",
+                Date.valueOf(today), category.getId()))
+                .containsEntry("order_count", 1)
+                .containsEntry("units", 2)
+                .containsEntry("revenue", new BigDecimal("20.00"));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_sales_rebuild", Long.class)).isZero();
+    }
+
+    private int quantity(LocalDate salesDate) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM product_daily_sales WHERE product_id = ? AND sales_date = ?",
+                Integer.class, product.getId(), Date.valueOf(salesDate));
+    }
+}
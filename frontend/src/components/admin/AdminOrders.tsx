@@ -23,11 +23,13 @@ const AdminOrders = () => {
 
   useEffect(() => {
     loadOrders();
+    // Yeni sipariş ve durum değişikliklerinde listeyi sessizce yenile
+    return apiService.subscribeToAllOrderEvents(() => loadOrders(false));
   }, []);
 
-  const loadOrders = async () => {
+  const loadOrders = async (showLoading = true) => {
     try {
-      setLoading(true);
+      setLoading(showLoading);
       const apiOrders = await apiService.getAllOrders();
 
       // Convert API orders to UI orders
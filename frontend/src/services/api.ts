@@ -74,6 +74,21 @@ interface Order {
   customerAddress?: string;
 }
 
+interface OrderSummary {
+  id: number;
+  orderDate: string;
+  status: string;
+  totalAmount: number;
+  itemCount: number;
+}
+
+interface OrderHistoryPage {
+  orders: OrderSummary[];
+  page: number;
+  size: number;
+  hasNext: boolean;
+}
+
 class ApiService {
   private getAuthHeaders() {
     const token = localStorage.getItem('organikKoseToken');
@@ -352,13 +367,26 @@ class ApiService {
     return response.json();
   }
 
-  async getUserOrders(): Promise<Order[]> {
-    const response = await fetch(`${API_BASE_URL}/orders/my-orders`, {
+  // Paged summaries; the lines of an order are loaded only when it is opened
+  async getOrderHistory(page = 0, size = 20): Promise<OrderHistoryPage> {
+    const response = await fetch(`${API_BASE_URL}/orders/history?page=${page}&size=${size}`, {
+      headers: this.getAuthHeaders(),
+    });
+
+    if (!response.ok) {
+      throw new Error('Failed to fetch order history');
+    }
+
+    return response.json();
+  }
+
+  async getOrderHistoryDetail(id: number): Promise<Order> {
+    const response = await fetch(`${API_BASE_URL}/orders/history/${id}`, {
       headers: this.getAuthHeaders(),
     });
 
     if (!response.ok) {
-      throw new Error('Failed to fetch user orders');
+      throw new Error('Failed to fetch order');
     }
 
     return response.json();
@@ -376,6 +404,31 @@ class ApiService {
     return response.json();
   }
 
+  // EventSource cannot send headers, so the token goes in the query string. The server closes
+  // streams that fall behind; EventSource reconnects by itself and onChange runs again then,
+  // since events sent while disconnected are not replayed. Returns the unsubscribe function.
+  subscribeToAllOrderEvents(onChange: () => void): () => void {
+    const token = localStorage.getItem('organikKoseToken');
+    if (!token) {
+      return () => {};
+    }
+
+    const source = new EventSource(`${API_BASE_URL}/orders/events/all?token=${encodeURIComponent(token)}`);
+    let reconnecting = false;
+    source.addEventListener('order-created', onChange);
+    source.addEventListener('order-status', onChange);
+    source.onerror = () => {
+      reconnecting = true;
+    };
+    source.onopen = () => {
+      if (reconnecting) {
+        reconnecting = false;
+        onChange();
+      }
+    };
+    return () => source.close();
+  }
+
   async updateOrderStatus(id: string, status: string): Promise<Order> {
     const response = await fetch(`${API_BASE_URL}/orders/${id}/status`, {
       method: 'PUT',
@@ -392,5 +445,5 @@ class ApiService {
 }
 
 export const apiService = new ApiService();
-export type { AuthResponse, Category, LoginRequest, Order, OrderDetail, Product, ProductDTO, RegisterRequest };
+export type { AuthResponse, Category, LoginRequest, Order, OrderDetail, OrderHistoryPage, OrderSummary, Product, ProductDTO, RegisterRequest };
 